@@ -0,0 +1,40 @@
+package subway.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import subway.controller.dto.LineResponse;
+import subway.domain.Line;
+import subway.domain.LineStation;
+import subway.domain.Section;
+import subway.domain.Sections;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LineResponseBenchmark {
+    private static final int SECTIONS_PER_LINE = 100;
+
+    @Param({"10", "1000", "100000"})
+    private int sectionCount;
+
+    private List<Line> lines;
+
+    @Setup
+    public void setUp() {
+        SyntheticNetwork network = SyntheticNetwork.of(sectionCount, SECTIONS_PER_LINE);
+        Map<Line, List<Section>> sectionsByLine = network.sections().stream()
+                .collect(Collectors.groupingBy(Section::line));
+        lines = network.lines();
+        lines.forEach(line -> line.getLineStations()
+                .addAll(LineStation.listOf(line, new Sections(sectionsByLine.get(line)))));
+    }
+
+    @Benchmark
+    public List<LineResponse> listOf() {
+        return LineResponse.listOf(lines);
+    }
+}
@@ -0,0 +1,46 @@
+package subway.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import subway.domain.Section;
+import subway.domain.Sections;
+import subway.domain.Station;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SectionsBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int sectionCount;
+
+    private List<Section> sections;
+    private Station downTerminalStation;
+    private Station newStation;
+    private Long lastSectionId;
+
+    @Setup
+    public void setUp() {
+        SyntheticNetwork network = SyntheticNetwork.of(sectionCount, sectionCount);
+        sections = network.sections();
+        downTerminalStation = network.lastSection().downStation();
+        newStation = network.newStation();
+        lastSectionId = network.lastSection().id();
+    }
+
+    @Benchmark
+    public Sections validateRegisterStationBy() {
+        Sections lineSections = new Sections(sections);
+        lineSections.validateRegisterStationBy(downTerminalStation, newStation);
+        return lineSections;
+    }
+
+    @Benchmark
+    public Sections validateDeleteSection() {
+        Sections lineSections = new Sections(sections);
+        lineSections.validateDeleteSection(lastSectionId);
+        return lineSections;
+    }
+}
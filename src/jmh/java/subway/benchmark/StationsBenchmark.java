@@ -0,0 +1,48 @@
+package subway.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import subway.domain.Station;
+import subway.domain.Stations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StationsBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int sectionCount;
+
+    private Stations stations;
+    private List<Long> requestedIds;
+    private long[] lookupIds;
+    private int nextLookup;
+
+    @Setup
+    public void setUp() {
+        SyntheticNetwork network = SyntheticNetwork.of(sectionCount, sectionCount);
+        stations = new Stations(network.stations());
+        int stationCount = network.stations().size();
+        requestedIds = new ArrayList<>(stationCount);
+        for (int i = 0; i < stationCount; i++) {
+            requestedIds.add((long) ThreadLocalRandom.current().nextInt(stationCount) + 1);
+        }
+        lookupIds = requestedIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Benchmark
+    public Station findBy() {
+        long stationId = lookupIds[nextLookup];
+        nextLookup = nextLookup + 1 == lookupIds.length ? 0 : nextLookup + 1;
+        return stations.findBy(stationId);
+    }
+
+    @Benchmark
+    public List<Station> findAllBy() {
+        return stations.findAllBy(requestedIds);
+    }
+}
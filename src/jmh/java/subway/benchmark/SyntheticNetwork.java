@@ -0,0 +1,79 @@
+package subway.benchmark;
+
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.Station;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SyntheticNetwork {
+    private final List<Line> lines = new ArrayList<>();
+    private final List<Station> stations = new ArrayList<>();
+    private final List<Section> sections = new ArrayList<>();
+
+    private SyntheticNetwork() {
+    }
+
+    public static SyntheticNetwork of(int sectionCount, int sectionsPerLine) {
+        SyntheticNetwork network = new SyntheticNetwork();
+        long nextSectionId = 1;
+        for (int remaining = sectionCount; remaining > 0; remaining -= sectionsPerLine) {
+            Line line = network.addLine();
+            Station upStation = network.addStation();
+            for (int i = 0; i < Math.min(remaining, sectionsPerLine); i++) {
+                Station downStation = network.addStation();
+                network.sections.add(section(nextSectionId++, line, upStation, downStation));
+                upStation = downStation;
+            }
+        }
+        return network;
+    }
+
+    private Line addLine() {
+        Line line = new Line((long) lines.size() + 1);
+        lines.add(line);
+        return line;
+    }
+
+    private Station addStation() {
+        long id = stations.size() + 1;
+        Station station = new Station(id, "역" + id);
+        stations.add(station);
+        return station;
+    }
+
+    private static Section section(long id, Line line, Station upStation, Station downStation) {
+        Section section = new Section(line, upStation, downStation, 10L);
+        try {
+            Field idField = Section.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(section, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+        return section;
+    }
+
+    public Station newStation() {
+        long id = stations.size() + 1;
+        return new Station(id, "역" + id);
+    }
+
+    public List<Line> lines() {
+        return lines;
+    }
+
+    public List<Station> stations() {
+        return stations;
+    }
+
+    public List<Section> sections() {
+        return sections;
+    }
+
+    public Section lastSection() {
+        return sections.get(sections.size() - 1);
+    }
+}
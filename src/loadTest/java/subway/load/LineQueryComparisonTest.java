@@ -0,0 +1,113 @@
+package subway.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.controller.dto.LineResponse;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.Sections;
+import subway.monitoring.QueryCounter;
+import subway.repository.LineRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(resolver = LoadProfilesResolver.class)
+public class LineQueryComparisonTest {
+    private static final String STATEMENTS_PER_CALL = "statementsPerCall";
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private LineRepository lineRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DisplayName("노선 목록 조회를 기존 방식, 페치 조인 방식, 노선역 테이블 방식으로 실행해 쿼리 수와 지연 시간을 비교한다.")
+    @Test
+    void compareLineQueries() throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        SeededNetwork.seed(new LoadClient(port), config);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        Map<String, Object> legacy = measure(transactionTemplate, () -> {
+            List<Line> lines = lineRepository.findAll();
+            return responsesOf(lines, entityManager
+                    .createQuery("select s from Section s where s.line in :lines", Section.class)
+                    .setParameter("lines", lines)
+                    .getResultList());
+        });
+        Map<String, Object> fetchJoin = measure(transactionTemplate, () -> {
+            List<Section> sections = entityManager
+                    .createQuery("select s from Section s join fetch s.line join fetch s.upStation join fetch s.downStation "
+                            + "order by s.line.id", Section.class)
+                    .getResultList();
+            return responsesOf(sections.stream().map(Section::line).distinct().collect(Collectors.toList()), sections);
+        });
+        Map<String, Object> lineStation = measure(transactionTemplate,
+                () -> LineResponse.listOf(lineRepository.findAllWithLineStations()));
+
+        LoadReport report = new LoadReport();
+        report.put("config", config.toMap());
+        report.put("legacy", legacy);
+        report.put("fetchJoin", fetchJoin);
+        report.put("lineStation", lineStation);
+        report.writeTo(config.reportPath().resolveSibling("line-query-report.json"));
+
+        assertThat((double) fetchJoin.get(STATEMENTS_PER_CALL)).isLessThan((double) legacy.get(STATEMENTS_PER_CALL));
+    }
+
+    private List<LineResponse> responsesOf(List<Line> lines, List<Section> sections) {
+        Map<Long, List<Section>> sectionsByLineId = sections.stream()
+                .collect(Collectors.groupingBy(section -> section.line().getId()));
+        return lines.stream()
+                .map(line -> LineResponse.ofWithStations(line, new Sections(sectionsByLineId.get(line.getId())).stations()))
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Object> measure(TransactionTemplate transactionTemplate, Supplier<List<LineResponse>> query) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            transactionTemplate.execute(status -> query.get());
+        }
+
+        OperationStats stats = new OperationStats();
+        long statements = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            queryCounter.start();
+            long begin = System.nanoTime();
+            transactionTemplate.execute(status -> query.get());
+            stats.record(System.nanoTime() - begin, true);
+            statements += queryCounter.stop();
+        }
+        double measuredSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        Map<String, Object> values = stats.toMap(measuredSeconds);
+        values.put(STATEMENTS_PER_CALL, (double) statements / ITERATIONS);
+        return values;
+    }
+}
@@ -0,0 +1,127 @@
+package subway.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.monitoring.QueryCounter;
+import subway.service.LineService;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:line-teardown-benchmark;DB_CLOSE_ON_EXIT=FALSE"
+)
+@DirtiesContext
+@ActiveProfiles(resolver = LoadProfilesResolver.class)
+public class LineTeardownBenchmarkTest {
+    private static final int[] SECTIONS_PER_LINE = {10, 100, 1_000, 5_000};
+    private static final String STATEMENTS_PER_DELETE = "statementsPerDelete";
+
+    @Autowired
+    private LineService lineService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @DisplayName("노선 삭제를 기존의 조회 후 삭제 방식과 벌크 삭제 방식으로 실행해 구간 수에 따른 비용을 비교한다.")
+    @Test
+    void compareLineTeardown() throws Exception {
+        int iterations = Integer.getInteger("load.teardownIterations", 20);
+        long firstStationId = seedStations(SECTIONS_PER_LINE[SECTIONS_PER_LINE.length - 1]);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        List<Object> bulkStatements = new ArrayList<>();
+        for (int sectionsPerLine : SECTIONS_PER_LINE) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("loadThenDelete", measure(iterations, firstStationId, sectionsPerLine, this::deleteByLoading));
+            Map<String, Object> bulkDelete = measure(iterations, firstStationId, sectionsPerLine, lineService::deleteLine);
+            result.put("bulkDelete", bulkDelete);
+            results.put(Integer.toString(sectionsPerLine), result);
+            bulkStatements.add(bulkDelete.get(STATEMENTS_PER_DELETE));
+        }
+
+        LoadReport report = new LoadReport();
+        report.put("iterations", iterations);
+        report.put("sectionsPerLine", results);
+        report.writeTo(LoadTestConfig.fromSystemProperties().reportPath().resolveSibling("line-teardown-report.json"));
+
+        assertThat(bulkStatements).containsOnly(bulkStatements.get(0));
+    }
+
+    private long seedStations(int sectionsPerLine) {
+        jdbcTemplate.update("insert into station (name) select '삭제역' || x from system_range(1, ?)", sectionsPerLine + 1);
+        return jdbcTemplate.queryForObject("select max(id) from station", Long.class) - sectionsPerLine;
+    }
+
+    private long seedLine(long firstStationId, int sectionsPerLine) {
+        jdbcTemplate.update("insert into line (name, color, version) values ('삭제노선', 'bg-gray-600', 0)");
+        long lineId = jdbcTemplate.queryForObject("select max(id) from line", Long.class);
+        jdbcTemplate.update("insert into section (line_id, up_station_id, down_station_id, distance) "
+                + "select ?, ? + x - 1, ? + x, 1 from system_range(1, ?)", lineId, firstStationId, firstStationId, sectionsPerLine);
+        jdbcTemplate.update("insert into line_station (line_id, position, station_id, cumulative_distance) "
+                + "select ?, x, ? + x, x from system_range(0, ?)", lineId, firstStationId, sectionsPerLine);
+        return lineId;
+    }
+
+    private void deleteByLoading(long lineId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Line line = entityManager.find(Line.class, lineId);
+            List<Section> sections = entityManager
+                    .createQuery("select s from Section s where s.line = :line", Section.class)
+                    .setParameter("line", line)
+                    .getResultList();
+            sections.forEach(entityManager::remove);
+            entityManager.createQuery("select ls from LineStation ls where ls.line = :line")
+                    .setParameter("line", line)
+                    .getResultList()
+                    .forEach(entityManager::remove);
+            entityManager.remove(line);
+        });
+    }
+
+    private Map<String, Object> measure(int iterations, long firstStationId, int sectionsPerLine, LongConsumer teardown) {
+        OperationStats stats = new OperationStats();
+        long statements = 0;
+        long elapsed = 0;
+        for (int i = 0; i < iterations; i++) {
+            long lineId = seedLine(firstStationId, sectionsPerLine);
+            queryCounter.start();
+            long begin = System.nanoTime();
+            teardown.accept(lineId);
+            long took = System.nanoTime() - begin;
+            statements += queryCounter.stop();
+            stats.record(took, true);
+            elapsed += took;
+        }
+
+        Map<String, Object> values = stats.toMap(elapsed / 1_000_000_000.0);
+        values.put(STATEMENTS_PER_DELETE, (double) statements / iterations);
+        return values;
+    }
+}
@@ -0,0 +1,20 @@
+package subway.load;
+
+import org.springframework.test.context.ActiveProfilesResolver;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+public class LoadProfilesResolver implements ActiveProfilesResolver {
+    private static final String LOAD_PROFILE = "load";
+
+    @Override
+    public String[] resolve(Class<?> testClass) {
+        String additionalProfiles = System.getProperty("load.profiles", "");
+        return Stream.concat(Stream.of(LOAD_PROFILE), Arrays.stream(additionalProfiles.split(",")))
+                .map(String::trim)
+                .filter(profile -> !profile.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,38 @@
+package subway.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LoadReport {
+    private final Map<String, Object> values = new LinkedHashMap<>();
+
+    public LoadReport() {
+    }
+
+    public LoadReport(LoadTestConfig config, Map<MixedWorkload.Operation, OperationStats> stats) {
+        values.put("config", config.toMap());
+        Map<String, Object> operations = new LinkedHashMap<>();
+        stats.forEach((operation, operationStats) ->
+                operations.put(operation.description(), operationStats.toMap(config.durationSeconds())));
+        values.put("operations", operations);
+    }
+
+    public void put(String name, Object value) {
+        values.put(name, value);
+    }
+
+    public void writeTo(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(path.toFile(), values);
+    }
+}
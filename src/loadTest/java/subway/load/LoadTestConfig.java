@@ -0,0 +1,79 @@
+package subway.load;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LoadTestConfig {
+    private final int lines;
+    private final int sectionsPerLine;
+    private final int clients;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final double mutationRatio;
+    private final Path reportPath;
+
+    private LoadTestConfig(int lines, int sectionsPerLine, int clients, int warmupSeconds, int durationSeconds,
+                           double mutationRatio, Path reportPath) {
+        this.lines = lines;
+        this.sectionsPerLine = sectionsPerLine;
+        this.clients = clients;
+        this.warmupSeconds = warmupSeconds;
+        this.durationSeconds = durationSeconds;
+        this.mutationRatio = mutationRatio;
+        this.reportPath = reportPath;
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("load.lines", 20),
+                Integer.getInteger("load.sectionsPerLine", 20),
+                Integer.getInteger("load.clients", 32),
+                Integer.getInteger("load.warmupSeconds", 5),
+                Integer.getInteger("load.durationSeconds", 30),
+                Double.parseDouble(System.getProperty("load.mutationRatio", "0.01")),
+                Path.of(System.getProperty("load.report", "build/reports/load/report.json"))
+        );
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("profiles", System.getProperty("load.profiles", ""));
+        values.put("javaVersion", Runtime.version().toString());
+        values.put("lines", lines);
+        values.put("sectionsPerLine", sectionsPerLine);
+        values.put("clients", clients);
+        values.put("warmupSeconds", warmupSeconds);
+        values.put("durationSeconds", durationSeconds);
+        values.put("mutationRatio", mutationRatio);
+        return values;
+    }
+
+    public int lines() {
+        return lines;
+    }
+
+    public int sectionsPerLine() {
+        return sectionsPerLine;
+    }
+
+    public int clients() {
+        return clients;
+    }
+
+    public int warmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int durationSeconds() {
+        return durationSeconds;
+    }
+
+    public double mutationRatio() {
+        return mutationRatio;
+    }
+
+    public Path reportPath() {
+        return reportPath;
+    }
+}
@@ -0,0 +1,116 @@
+package subway.load;
+
+import subway.controller.dto.SectionCreateRequest;
+
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class MixedWorkload {
+    private final LoadClient client;
+    private final SeededNetwork network;
+    private final LoadTestConfig config;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+    public MixedWorkload(LoadClient client, SeededNetwork network, LoadTestConfig config) {
+        this.client = client;
+        this.network = network;
+        this.config = config;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    public LoadReport run() throws InterruptedException {
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+
+        ExecutorService executor = Executors.newFixedThreadPool(config.clients());
+        for (int i = 0; i < config.clients(); i++) {
+            executor.execute(() -> drive(measureFrom, measureUntil));
+        }
+        executor.shutdown();
+        executor.awaitTermination(config.warmupSeconds() + config.durationSeconds() + 60L, TimeUnit.SECONDS);
+
+        return new LoadReport(config, stats);
+    }
+
+    private void drive(long measureFrom, long measureUntil) {
+        long now = System.nanoTime();
+        while (now < measureUntil) {
+            Operation operation = nextOperation();
+            SeededNetwork.SeededLine line = operation == Operation.MUTATE_SECTION ? network.tryAcquireLine() : null;
+            if (operation == Operation.MUTATE_SECTION && line == null) {
+                operation = Operation.GET_LINES;
+            }
+            long startedAt = System.nanoTime();
+            boolean success = execute(operation, line);
+            now = System.nanoTime();
+            if (startedAt >= measureFrom) {
+                stats.get(operation).record(now - startedAt, success);
+            }
+        }
+    }
+
+    private Operation nextOperation() {
+        double dice = ThreadLocalRandom.current().nextDouble();
+        if (dice < config.mutationRatio()) {
+            return Operation.MUTATE_SECTION;
+        }
+        return dice < (1 + config.mutationRatio()) / 2 ? Operation.GET_LINES : Operation.GET_STATIONS;
+    }
+
+    private boolean execute(Operation operation, SeededNetwork.SeededLine line) {
+        try {
+            switch (operation) {
+                case GET_LINES:
+                    return isSuccessful(client.get("/lines"));
+                case GET_STATIONS:
+                    return isSuccessful(client.get("/stations/all"));
+                default:
+                    return mutateSection(line);
+            }
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private boolean mutateSection(SeededNetwork.SeededLine line) {
+        try {
+            SectionCreateRequest request = new SectionCreateRequest(line.spareStationId(), line.downTerminalStationId(), 5);
+            HttpResponse<String> created = client.post("/lines/" + line.id() + "/sections", request);
+            if (created.statusCode() != 201) {
+                return false;
+            }
+            String location = created.headers().firstValue("Location").orElseThrow();
+            String sectionId = location.substring(location.lastIndexOf('/') + 1);
+            return client.delete("/lines/" + line.id() + "/sections?stationId=" + sectionId).statusCode() == 204;
+        } finally {
+            line.release();
+        }
+    }
+
+    private boolean isSuccessful(HttpResponse<String> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+    public enum Operation {
+        GET_LINES("GET /lines"),
+        GET_STATIONS("GET /stations/all"),
+        MUTATE_SECTION("POST+DELETE /lines/{id}/sections");
+
+        private final String description;
+
+        Operation(String description) {
+            this.description = description;
+        }
+
+        public String description() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package subway.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OperationStats {
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram latencies = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final LongAdder errors = new LongAdder();
+
+    public void record(long elapsedNanos, boolean success) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    public Map<String, Object> toMap(double measuredSeconds) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", latencies.getTotalCount());
+        values.put("errors", errors.sum());
+        values.put("throughputPerSecond", latencies.getTotalCount() / measuredSeconds);
+        values.put("p50Micros", latencies.getValueAtPercentile(50));
+        values.put("p99Micros", latencies.getValueAtPercentile(99));
+        values.put("p999Micros", latencies.getValueAtPercentile(99.9));
+        values.put("maxMicros", latencies.getMaxValue());
+        return values;
+    }
+}
@@ -0,0 +1,43 @@
+package subway.load;
+
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SecondLevelCacheStats {
+    private static final List<String> ENTITY_REGIONS = List.of("subway.domain.Station", "subway.domain.Line");
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheStats(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String region : ENTITY_REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            values.put(region, hitRate(regionStatistics.getHitCount(), regionStatistics.getMissCount(),
+                    regionStatistics.getPutCount()));
+        }
+        values.put("queryCache", hitRate(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount()));
+        return values;
+    }
+
+    private Map<String, Object> hitRate(long hits, long misses, long puts) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("hits", hits);
+        values.put("misses", misses);
+        values.put("puts", puts);
+        values.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        return values;
+    }
+}
@@ -0,0 +1,121 @@
+package subway.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:section-index-benchmark;DB_CLOSE_ON_EXIT=FALSE"
+)
+@DirtiesContext
+@ActiveProfiles(resolver = LoadProfilesResolver.class)
+public class SectionIndexBenchmarkTest {
+    private static final String INDEXED_TABLE = "section";
+    private static final String UNINDEXED_TABLE = "section_unindexed";
+    private static final Map<String, String> LOOKUPS = Map.of(
+            "findByLine", "select * from %s where line_id = ?",
+            "upStationOnLine", "select count(*) from %s where line_id = ? and up_station_id = ?",
+            "downStationOnLine", "select count(*) from %s where line_id = ? and down_station_id = ?",
+            "sectionsOfStation", "select count(*) from %s where up_station_id = ? or down_station_id = ?"
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("구간 조회 쿼리의 실행 계획과 지연 시간을 인덱스 유무에 따라 비교한다.")
+    @Test
+    void compareSectionLookups() throws Exception {
+        int lines = Integer.getInteger("load.indexLines", 1_000);
+        int sectionsPerLine = Integer.getInteger("load.indexSectionsPerLine", 1_000);
+        int iterations = Integer.getInteger("load.indexIterations", 200);
+        Seed seed = seed(lines, sectionsPerLine);
+
+        Map<String, Object> lookups = new LinkedHashMap<>();
+        for (Map.Entry<String, String> lookup : LOOKUPS.entrySet()) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("indexed", measure(String.format(lookup.getValue(), INDEXED_TABLE), seed, iterations));
+            result.put("unindexed", measure(String.format(lookup.getValue(), UNINDEXED_TABLE), seed, iterations));
+            lookups.put(lookup.getKey(), result);
+        }
+
+        LoadReport report = new LoadReport();
+        report.put("lines", lines);
+        report.put("sectionsPerLine", sectionsPerLine);
+        report.put("sections", (long) lines * sectionsPerLine);
+        report.put("iterations", iterations);
+        report.put("lookups", lookups);
+        report.writeTo(LoadTestConfig.fromSystemProperties().reportPath().resolveSibling("section-index-report.json"));
+    }
+
+    private Seed seed(int lines, int sectionsPerLine) {
+        jdbcTemplate.update("insert into station (name) select '인덱스역' || x from system_range(1, ?)", sectionsPerLine + 1);
+        long firstStationId = jdbcTemplate.queryForObject("select max(id) from station", Long.class) - sectionsPerLine;
+        jdbcTemplate.update("insert into line (name, color, version) select '인덱스노선' || x, 'bg-gray-600', 0 from system_range(1, ?)", lines);
+        long firstLineId = jdbcTemplate.queryForObject("select max(id) from line", Long.class) - lines + 1;
+
+        jdbcTemplate.update("insert into section (line_id, up_station_id, down_station_id, distance) "
+                        + "select l.id, ? + x - 1, ? + x, 1 from line l, system_range(1, ?) where l.id >= ?",
+                firstStationId, firstStationId, sectionsPerLine, firstLineId);
+        jdbcTemplate.execute("drop table if exists " + UNINDEXED_TABLE);
+        jdbcTemplate.execute("create table " + UNINDEXED_TABLE + " as select * from " + INDEXED_TABLE);
+        jdbcTemplate.execute("analyze");
+        return new Seed(firstLineId, lines, firstStationId, sectionsPerLine);
+    }
+
+    private Map<String, Object> measure(String sql, Seed seed, int iterations) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("sql", sql);
+        values.put("plan", jdbcTemplate.queryForObject("explain " + sql, String.class, seed.randomArguments(sql)));
+
+        for (int i = 0; i < Math.max(iterations / 10, 1); i++) {
+            jdbcTemplate.queryForList(sql, seed.randomArguments(sql));
+        }
+        OperationStats stats = new OperationStats();
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            Object[] arguments = seed.randomArguments(sql);
+            long begin = System.nanoTime();
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql, arguments);
+            stats.record(System.nanoTime() - begin, !rows.isEmpty());
+        }
+        values.putAll(stats.toMap((System.nanoTime() - started) / 1_000_000_000.0));
+        return values;
+    }
+
+    private static class Seed {
+        private final long firstLineId;
+        private final int lines;
+        private final long firstStationId;
+        private final int sectionsPerLine;
+
+        Seed(long firstLineId, int lines, long firstStationId, int sectionsPerLine) {
+            this.firstLineId = firstLineId;
+            this.lines = lines;
+            this.firstStationId = firstStationId;
+            this.sectionsPerLine = sectionsPerLine;
+        }
+
+        Object[] randomArguments(String sql) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long lineId = firstLineId + random.nextInt(lines);
+            long stationId = firstStationId + random.nextInt(sectionsPerLine);
+            if (sql.startsWith("select *")) {
+                return new Object[]{lineId};
+            }
+            if (sql.contains("line_id")) {
+                return new Object[]{lineId, stationId};
+            }
+            return new Object[]{stationId, stationId};
+        }
+    }
+}
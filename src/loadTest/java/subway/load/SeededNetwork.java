@@ -0,0 +1,87 @@
+package subway.load;
+
+import subway.controller.dto.LineImportRequest;
+import subway.controller.dto.StationCreateRequest;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class SeededNetwork {
+    private final List<SeededLine> lines;
+
+    private SeededNetwork(List<SeededLine> lines) {
+        this.lines = lines;
+    }
+
+    public static SeededNetwork seed(LoadClient client, LoadTestConfig config) {
+        List<SeededLine> lines = new ArrayList<>();
+        int stationSequence = 0;
+        for (int lineIndex = 0; lineIndex < config.lines(); lineIndex++) {
+            List<Long> stationIds = new ArrayList<>();
+            for (int i = 0; i <= config.sectionsPerLine(); i++) {
+                stationIds.add(createStation(client, ++stationSequence));
+            }
+            Long spareStationId = createStation(client, ++stationSequence);
+
+            LineImportRequest request = new LineImportRequest("노선" + lineIndex, "bg-red-600", stationIds,
+                    Collections.nCopies(config.sectionsPerLine(), 10L));
+            Long lineId = client.readTree(expect(client.post("/lines/bulk", request), 201)).get("id").asLong();
+            lines.add(new SeededLine(lineId, stationIds.get(stationIds.size() - 1), spareStationId));
+        }
+        return new SeededNetwork(lines);
+    }
+
+    private static Long createStation(LoadClient client, int sequence) {
+        HttpResponse<String> response = expect(client.post("/stations", new StationCreateRequest("역" + sequence)), 201);
+        return client.readTree(response).get("id").asLong();
+    }
+
+    private static HttpResponse<String> expect(HttpResponse<String> response, int statusCode) {
+        if (response.statusCode() != statusCode) {
+            throw new IllegalStateException("시드 데이터 생성에 실패했습니다. " + response.statusCode() + " " + response.body());
+        }
+        return response;
+    }
+
+    public SeededLine tryAcquireLine() {
+        SeededLine line = lines.get(ThreadLocalRandom.current().nextInt(lines.size()));
+        return line.tryAcquire() ? line : null;
+    }
+
+    public static class SeededLine {
+        private final Long id;
+        private final Long downTerminalStationId;
+        private final Long spareStationId;
+        private final AtomicBoolean mutating = new AtomicBoolean();
+
+        SeededLine(Long id, Long downTerminalStationId, Long spareStationId) {
+            this.id = id;
+            this.downTerminalStationId = downTerminalStationId;
+            this.spareStationId = spareStationId;
+        }
+
+        private boolean tryAcquire() {
+            return mutating.compareAndSet(false, true);
+        }
+
+        public void release() {
+            mutating.set(false);
+        }
+
+        public Long id() {
+            return id;
+        }
+
+        public Long downTerminalStationId() {
+            return downTerminalStationId;
+        }
+
+        public Long spareStationId() {
+            return spareStationId;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package subway.load;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(resolver = LoadProfilesResolver.class)
+public class SubwayLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DisplayName("노선/지하철역 조회와 구간 변경이 섞인 부하에서 지연 시간을 측정한다.")
+    @Test
+    void mixedWorkload() throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        LoadClient client = new LoadClient(port);
+        SeededNetwork network = SeededNetwork.seed(client, config);
+        SecondLevelCacheStats cacheStats = new SecondLevelCacheStats(
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics());
+        cacheStats.reset();
+
+        LoadReport report = new MixedWorkload(client, network, config).run();
+        report.put("secondLevelCache", cacheStats.toMap());
+
+        report.writeTo(config.reportPath());
+    }
+}
@@ -0,0 +1,13 @@
+package subway.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 10)
+public class CacheConfig {
+    public static final String LINE = "line";
+    public static final String LINES = "lines";
+    public static final String STATIONS = "stations";
+}
@@ -1,12 +1,16 @@
 package subway.controller;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import subway.controller.dto.LineCreateRequest;
+import subway.controller.dto.LineImportRequest;
 import subway.controller.dto.LineResponse;
 import subway.controller.dto.LineUpdateRequest;
 import subway.controller.dto.SectionCreateRequest;
 import subway.service.LineService;
+import subway.service.NetworkVersion;
 import subway.service.SectionService;
 import subway.service.StationService;
 
@@ -18,10 +22,12 @@ import java.util.List;
 public class LineController {
     private final LineService lineService;
     private final SectionService sectionService;
+    private final NetworkVersion networkVersion;
 
-    public LineController(LineService lineService, SectionService sectionService) {
+    public LineController(LineService lineService, SectionService sectionService, NetworkVersion networkVersion) {
         this.lineService = lineService;
         this.sectionService = sectionService;
+        this.networkVersion = networkVersion;
     }
 
     @PostMapping("/lines")
@@ -30,16 +36,33 @@ public class LineController {
         return ResponseEntity.created(URI.create("/stations/" + lineResponse.getId())).body(lineResponse);
     }
 
+    @PostMapping("/lines/bulk")
+    public ResponseEntity<LineResponse> importLine(@Valid @RequestBody LineImportRequest request) {
+        LineResponse lineResponse = lineService.importLine(request);
+        return ResponseEntity.created(URI.create("/lines/" + lineResponse.getId())).body(lineResponse);
+    }
+
     @GetMapping("/lines")
-    public ResponseEntity<List<LineResponse>> showLines() {
+    public ResponseEntity<List<LineResponse>> showLines(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = networkVersion.eTag();
+        if (networkVersion.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
         List<LineResponse> lineResponses = lineService.findLines();
-        return ResponseEntity.ok().body(lineResponses);
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(lineResponses);
     }
 
     @GetMapping("/lines/{id}")
-    public ResponseEntity<LineResponse> showLine(@PathVariable Long id) {
+    public ResponseEntity<LineResponse> showLine(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = networkVersion.eTag();
+        if (networkVersion.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
         LineResponse lineResponse = lineService.findLine(id);
-        return ResponseEntity.ok().body(lineResponse);
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(lineResponse);
     }
 
     @PutMapping("/lines/{id}")
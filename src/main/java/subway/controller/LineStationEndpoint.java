@@ -0,0 +1,23 @@
+package subway.controller;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import subway.service.LineStationBackfill;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "linestations")
+public class LineStationEndpoint {
+    private final LineStationBackfill lineStationBackfill;
+
+    public LineStationEndpoint(LineStationBackfill lineStationBackfill) {
+        this.lineStationBackfill = lineStationBackfill;
+    }
+
+    @WriteOperation
+    public List<Long> backfill() {
+        return lineStationBackfill.backfill();
+    }
+}
@@ -0,0 +1,24 @@
+package subway.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import subway.service.NetworkExportService;
+
+@RestController
+public class NetworkController {
+    private final NetworkExportService networkExportService;
+
+    public NetworkController(NetworkExportService networkExportService) {
+        this.networkExportService = networkExportService;
+    }
+
+    @GetMapping(value = "/network/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportNetwork() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(networkExportService::export);
+    }
+}
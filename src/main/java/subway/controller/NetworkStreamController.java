@@ -0,0 +1,60 @@
+package subway.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import subway.controller.dto.LineResponse;
+import subway.controller.dto.StationResponse;
+import subway.service.LineService;
+import subway.service.NetworkVersion;
+import subway.service.StationService;
+
+@RestController
+public class NetworkStreamController {
+    private final LineService lineService;
+    private final StationService stationService;
+    private final NetworkVersion networkVersion;
+
+    public NetworkStreamController(LineService lineService, StationService stationService, NetworkVersion networkVersion) {
+        this.lineService = lineService;
+        this.stationService = stationService;
+        this.networkVersion = networkVersion;
+    }
+
+    @GetMapping(value = "/lines", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<LineResponse>> streamLines(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = networkVersion.ndjsonETag();
+        if (networkVersion.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(Flux.fromIterable(lineService.findLines()));
+    }
+
+    @GetMapping(value = "/lines/{id}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<LineResponse>> streamLine(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = networkVersion.ndjsonETag();
+        if (networkVersion.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(Flux.just(lineService.findLine(id)));
+    }
+
+    @GetMapping(value = "/stations/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<StationResponse>> streamStations(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = networkVersion.ndjsonETag();
+        if (networkVersion.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(Flux.fromIterable(stationService.findAllStations()));
+    }
+}
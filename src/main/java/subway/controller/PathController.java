@@ -0,0 +1,22 @@
+package subway.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import subway.controller.dto.PathResponse;
+import subway.service.PathService;
+
+@RestController
+public class PathController {
+    private final PathService pathService;
+
+    public PathController(PathService pathService) {
+        this.pathService = pathService;
+    }
+
+    @GetMapping("/paths")
+    public ResponseEntity<PathResponse> showPath(@RequestParam Long source, @RequestParam Long target) {
+        return ResponseEntity.ok().body(pathService.findPath(source, target));
+    }
+}
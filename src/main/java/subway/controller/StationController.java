@@ -1,9 +1,14 @@
 package subway.controller;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import subway.controller.dto.StationCreateRequest;
+import subway.controller.dto.StationImportResponse;
+import subway.controller.dto.StationPageResponse;
 import subway.controller.dto.StationResponse;
+import subway.service.NetworkVersion;
 import subway.service.StationService;
 
 import java.net.URI;
@@ -12,9 +17,11 @@ import java.util.List;
 @RestController
 public class StationController {
     private final StationService stationService;
+    private final NetworkVersion networkVersion;
 
-    public StationController(StationService stationService) {
+    public StationController(StationService stationService, NetworkVersion networkVersion) {
         this.stationService = stationService;
+        this.networkVersion = networkVersion;
     }
 
     @PostMapping("/stations")
@@ -23,9 +30,26 @@ public class StationController {
         return ResponseEntity.created(URI.create("/stations/" + station.getId())).body(station);
     }
 
+    @PostMapping("/stations/bulk")
+    public ResponseEntity<StationImportResponse> createStations(@RequestBody List<StationCreateRequest> stationCreateRequests) {
+        return ResponseEntity.ok().body(stationService.saveStations(stationCreateRequests));
+    }
+
     @GetMapping(value = "/stations/all")
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().body(stationService.findAllStations());
+    public ResponseEntity<List<StationResponse>> showStations(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = networkVersion.eTag();
+        if (networkVersion.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(stationService.findAllStations());
+    }
+
+    @GetMapping("/stations")
+    public ResponseEntity<StationPageResponse> showStationPage(
+            @RequestParam(defaultValue = "0") Long cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok().body(stationService.findStations(cursor, limit));
     }
 
     @DeleteMapping("/stations/{id}")
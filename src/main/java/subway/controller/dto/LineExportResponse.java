@@ -0,0 +1,34 @@
+package subway.controller.dto;
+
+public class LineExportResponse {
+    private static final String TYPE = "line";
+
+    private Long id;
+    private String name;
+    private String color;
+
+    public LineExportResponse() {
+    }
+
+    public LineExportResponse(Long id, String name, String color) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+    }
+
+    public String getType() {
+        return TYPE;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+}
@@ -0,0 +1,42 @@
+package subway.controller.dto;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+public class LineImportRequest {
+    private String name;
+    private String color;
+    @NotNull
+    @Size(min = 2)
+    private List<@NotNull Long> stationIds;
+    @NotNull
+    private List<@NotNull @Min(1) Long> distances;
+
+    public LineImportRequest() {
+    }
+
+    public LineImportRequest(String name, String color, List<Long> stationIds, List<Long> distances) {
+        this.name = name;
+        this.color = color;
+        this.stationIds = stationIds;
+        this.distances = distances;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+
+    public List<Long> getDistances() {
+        return distances;
+    }
+}
@@ -1,7 +1,7 @@
 package subway.controller.dto;
 
 import subway.domain.Line;
-import subway.domain.Section;
+import subway.domain.LineStation;
 import subway.domain.Station;
 
 import java.util.List;
@@ -23,28 +23,21 @@ public class LineResponse {
         this.stations = stations;
     }
 
-    public static List<LineResponse> listOf(List<Line> lines, List<Section> sections) {
+    public static List<LineResponse> listOf(List<Line> lines) {
         return lines.stream()
-                .map(line -> ofWithSections(line, sections))
+                .map(LineResponse::of)
                 .collect(Collectors.toList());
     }
 
-    public static LineResponse ofWithStations(Line line, List<Station> stations) {
-        return new LineResponse(line.getId(), line.getName(), line.getColor(), StationResponse.listOf(stations));
-    }
-
-    public static LineResponse ofWithSections(Line line, List<Section> sections) {
-        List<Station> containStations = containStationWithLine(line, sections);
-        return new LineResponse(line.getId(), line.getName(), line.getColor(), StationResponse.listOf(containStations));
+    public static LineResponse of(Line line) {
+        List<Station> stations = line.getLineStations().stream()
+                .map(LineStation::station)
+                .collect(Collectors.toList());
+        return ofWithStations(line, stations);
     }
 
-    private static List<Station> containStationWithLine(Line line, List<Section> sections) {
-        return sections.stream()
-                .filter(section -> section.isSameLine(line))
-                .map(Section::stations)
-                .flatMap(List::stream)
-                .distinct()
-                .collect(Collectors.toList());
+    public static LineResponse ofWithStations(Line line, List<Station> stations) {
+        return new LineResponse(line.getId(), line.getName(), line.getColor(), StationResponse.listOf(stations));
     }
 
     public Long getId() {
@@ -0,0 +1,30 @@
+package subway.controller.dto;
+
+import subway.domain.Path;
+
+import java.util.List;
+
+public class PathResponse {
+    private List<StationResponse> stations;
+    private long distance;
+
+    public PathResponse() {
+    }
+
+    public PathResponse(List<StationResponse> stations, long distance) {
+        this.stations = stations;
+        this.distance = distance;
+    }
+
+    public static PathResponse of(Path path) {
+        return new PathResponse(StationResponse.listOf(path.stations()), path.distance());
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public long getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,46 @@
+package subway.controller.dto;
+
+public class SectionExportResponse {
+    private static final String TYPE = "section";
+
+    private Long id;
+    private Long lineId;
+    private Long upStationId;
+    private Long downStationId;
+    private Long distance;
+
+    public SectionExportResponse() {
+    }
+
+    public SectionExportResponse(Long id, Long lineId, Long upStationId, Long downStationId, Long distance) {
+        this.id = id;
+        this.lineId = lineId;
+        this.upStationId = upStationId;
+        this.downStationId = downStationId;
+        this.distance = distance;
+    }
+
+    public String getType() {
+        return TYPE;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public Long getUpStationId() {
+        return upStationId;
+    }
+
+    public Long getDownStationId() {
+        return downStationId;
+    }
+
+    public Long getDistance() {
+        return distance;
+    }
+}
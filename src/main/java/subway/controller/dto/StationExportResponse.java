@@ -0,0 +1,28 @@
+package subway.controller.dto;
+
+public class StationExportResponse {
+    private static final String TYPE = "station";
+
+    private Long id;
+    private String name;
+
+    public StationExportResponse() {
+    }
+
+    public StationExportResponse(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public String getType() {
+        return TYPE;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,28 @@
+package subway.controller.dto;
+
+public class StationImportErrorResponse {
+    private int index;
+    private String name;
+    private String message;
+
+    public StationImportErrorResponse() {
+    }
+
+    public StationImportErrorResponse(int index, String name, String message) {
+        this.index = index;
+        this.name = name;
+        this.message = message;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
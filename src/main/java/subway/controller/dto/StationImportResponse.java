@@ -0,0 +1,24 @@
+package subway.controller.dto;
+
+import java.util.List;
+
+public class StationImportResponse {
+    private int createdCount;
+    private List<StationImportErrorResponse> errors;
+
+    public StationImportResponse() {
+    }
+
+    public StationImportResponse(int createdCount, List<StationImportErrorResponse> errors) {
+        this.createdCount = createdCount;
+        this.errors = errors;
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public List<StationImportErrorResponse> getErrors() {
+        return errors;
+    }
+}
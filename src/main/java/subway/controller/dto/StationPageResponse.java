@@ -0,0 +1,24 @@
+package subway.controller.dto;
+
+import java.util.List;
+
+public class StationPageResponse {
+    private List<StationResponse> stations;
+    private Long nextCursor;
+
+    public StationPageResponse() {
+    }
+
+    public StationPageResponse(List<StationResponse> stations, Long nextCursor) {
+        this.stations = stations;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
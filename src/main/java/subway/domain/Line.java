@@ -1,11 +1,17 @@
 package subway.domain;
 
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Line {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -17,6 +23,13 @@ public class Line {
     @Column(length = 20, nullable = false)
     private String color;
 
+    @Version
+    private Long version;
+
+    @OneToMany(mappedBy = "line")
+    @OrderBy("position")
+    private List<LineStation> lineStations = new ArrayList<>();
+
     protected Line() {
     }
 
@@ -46,6 +59,10 @@ public class Line {
         return color;
     }
 
+    public List<LineStation> getLineStations() {
+        return lineStations;
+    }
+
     @Override
     public boolean equals(Object object) {
         if (this == object) return true;
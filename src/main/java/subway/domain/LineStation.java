@@ -0,0 +1,81 @@
+package subway.domain;
+
+import javax.persistence.*;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(
+        indexes = @Index(name = "idx_line_station_station", columnList = "station_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_line_station_position", columnNames = {"line_id", "position"})
+)
+public class LineStation {
+    private static final int FIRST_POSITION = 0;
+    private static final long START_DISTANCE = 0;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "line_id", nullable = false)
+    private Line line;
+
+    @Column(nullable = false)
+    private int position;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "station_id", nullable = false)
+    private Station station;
+
+    @Column(nullable = false)
+    private Long cumulativeDistance;
+
+    protected LineStation() {
+    }
+
+    public LineStation(Line line, int position, Station station, Long cumulativeDistance) {
+        this.line = line;
+        this.position = position;
+        this.station = station;
+        this.cumulativeDistance = cumulativeDistance;
+    }
+
+    public static List<LineStation> listOf(Line line, Sections sections) {
+        List<Section> orderedSections = sections.sections();
+        List<LineStation> lineStations = new ArrayList<>(orderedSections.size() + 1);
+        LineStation current = new LineStation(line, FIRST_POSITION, orderedSections.get(0).upStation(), START_DISTANCE);
+        lineStations.add(current);
+        for (Section section : orderedSections) {
+            current = current.next(section);
+            lineStations.add(current);
+        }
+        return lineStations;
+    }
+
+    private LineStation next(Section section) {
+        return new LineStation(line, position + 1, section.downStation(), cumulativeDistance + section.distance());
+    }
+
+    public boolean isSameStop(LineStation other) {
+        return position == other.position
+                && station.getId().equals(other.station.getId())
+                && cumulativeDistance.equals(other.cumulativeDistance);
+    }
+
+    public Line line() {
+        return line;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public Station station() {
+        return station;
+    }
+
+    public Long cumulativeDistance() {
+        return cumulativeDistance;
+    }
+}
@@ -0,0 +1,23 @@
+package subway.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Path {
+
+    private final List<Station> stations;
+    private final long distance;
+
+    public Path(List<Station> stations, long distance) {
+        this.stations = new ArrayList<>(stations);
+        this.distance = distance;
+    }
+
+    public List<Station> stations() {
+        return stations;
+    }
+
+    public long distance() {
+        return distance;
+    }
+}
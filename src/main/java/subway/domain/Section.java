@@ -4,6 +4,16 @@ import javax.persistence.*;
 import java.util.List;
 
 @Entity
+@Table(
+        indexes = {
+                @Index(name = "idx_section_up_station", columnList = "up_station_id"),
+                @Index(name = "idx_section_down_station", columnList = "down_station_id")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_section_line_up_station", columnNames = {"line_id", "up_station_id"}),
+                @UniqueConstraint(name = "uk_section_line_down_station", columnNames = {"line_id", "down_station_id"})
+        }
+)
 public class Section {
 
     @Id
@@ -63,6 +73,10 @@ public class Section {
         return id;
     }
 
+    public Line line() {
+        return line;
+    }
+
     public Station upStation() {
         return upStation;
     }
@@ -0,0 +1,56 @@
+package subway.domain;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class SectionEdge {
+    private final Long upStationId;
+    private final String upStationName;
+    private final Long downStationId;
+    private final String downStationName;
+    private final long distance;
+
+    public SectionEdge(Long upStationId, String upStationName, Long downStationId, String downStationName, Long distance) {
+        this.upStationId = upStationId;
+        this.upStationName = upStationName;
+        this.downStationId = downStationId;
+        this.downStationName = downStationName;
+        this.distance = distance;
+    }
+
+    public static SectionEdge of(Section section) {
+        return new SectionEdge(
+                section.upStation().getId(),
+                section.upStation().getName(),
+                section.downStation().getId(),
+                section.downStation().getName(),
+                section.distance()
+        );
+    }
+
+    public static List<SectionEdge> listOf(List<Section> sections) {
+        return sections.stream()
+                .map(SectionEdge::of)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    public Long upStationId() {
+        return upStationId;
+    }
+
+    public String upStationName() {
+        return upStationName;
+    }
+
+    public Long downStationId() {
+        return downStationId;
+    }
+
+    public String downStationName() {
+        return downStationName;
+    }
+
+    public long distance() {
+        return distance;
+    }
+}
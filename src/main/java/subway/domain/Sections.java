@@ -3,18 +3,27 @@ package subway.domain;
 import subway.exception.ApplicationException;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 public class Sections {
 
     private static final long NON_SECTION_DISTANCE = 0;
 
     private final List<Section> sections;
+    private final Map<Long, Section> sectionsByUpStationId;
+    private final Map<Long, Section> sectionsByDownStationId;
 
     public Sections(List<Section> sections) {
         validateSize(sections);
-        this.sections = new ArrayList<>(sections);
+        this.sectionsByUpStationId = new HashMap<>();
+        this.sectionsByDownStationId = new HashMap<>();
+        for (Section section : sections) {
+            sectionsByUpStationId.put(section.upStation().getId(), section);
+            sectionsByDownStationId.put(section.downStation().getId(), section);
+        }
+        this.sections = orderedChain(sections);
     }
 
     private void validateSize(List<Section> sections) {
@@ -23,26 +32,61 @@ public class Sections {
         }
     }
 
+    private List<Section> orderedChain(List<Section> sections) {
+        List<Section> chain = new ArrayList<>(sections.size());
+        Section current = upTerminalSection(sections);
+        while (current != null && chain.size() < sections.size()) {
+            chain.add(current);
+            current = sectionsByUpStationId.get(current.downStation().getId());
+        }
+        if (current != null || chain.size() != sections.size()) {
+            throw new IllegalStateException("구간이 하나의 경로로 연결되어 있지 않습니다.");
+        }
+        return chain;
+    }
+
+    private Section upTerminalSection(List<Section> sections) {
+        return sections.stream()
+                .filter(section -> !sectionsByDownStationId.containsKey(section.upStation().getId()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("구간의 상행 종점역을 찾을 수 없습니다."));
+    }
+
+    public void add(Section section) {
+        validateRegisterStationBy(section.upStation(), section.downStation());
+        sectionsByUpStationId.put(section.upStation().getId(), section);
+        sectionsByDownStationId.put(section.downStation().getId(), section);
+        sections.add(section);
+    }
+
+    public void remove(Section section) {
+        sections.remove(section);
+        sectionsByUpStationId.remove(section.upStation().getId(), section);
+        sectionsByDownStationId.remove(section.downStation().getId(), section);
+    }
+
     public void validateRegisterStationBy(Station upStation, Station downStation) {
-        validateUpStation(upStation);
         validateDownStation(downStation);
+        validateUpStation(upStation);
     }
 
     private void validateUpStation(Station upStation) {
-        if (sections.stream().anyMatch(section -> section.isUpStation(upStation))) {
+        if (!findLastSection().downStation().getId().equals(upStation.getId())) {
             throw new ApplicationException("새로운 구간의 상행역은 노선의 하행 종점역에만 생성할 수 있습니다.");
         }
     }
 
     private void validateDownStation(Station downStation) {
-        boolean isDownStationRegistered = sections.stream()
-                .anyMatch(section -> section.matchesStation(downStation));
-
-        if (isDownStationRegistered) {
+        if (contains(downStation)) {
             throw new ApplicationException("새로운 구간의 하행역은 노선에 존재하는 역에 생성할 수 없습니다.");
         }
     }
 
+    private boolean contains(Station station) {
+        return sectionsByUpStationId.containsKey(station.getId())
+                || sectionsByDownStationId.containsKey(station.getId());
+    }
+
     public void validateDeleteSection(Long stationId) {
         validateSectionCount();
         validateLastSection(stationId);
@@ -61,39 +105,21 @@ public class Sections {
         }
     }
 
-    private Section findLastSection() {
-        List<Station> upStations = upStations();
-        List<Station> downStations = downStations();
-
-        Station downTerminalStation = downTerminalStation(downStations, upStations);
-
-        return lastSection(downTerminalStation);
-    }
-
-    private List<Station> downStations() {
-        return sections.stream()
-                .map(Section::downStation)
-                .collect(Collectors.toList());
+    public Section findLastSection() {
+        return sections.get(sections.size() - 1);
     }
 
-    private List<Station> upStations() {
-        return sections.stream()
-                .map(Section::upStation)
-                .collect(Collectors.toList());
-    }
-
-    private Station downTerminalStation(List<Station> downStations, List<Station> upStations) {
-        return downStations.stream()
-                .filter(station -> !upStations.contains(station))
-                .findFirst()
-                .orElseThrow(() -> new ApplicationException("하행 종점역을 찾을 수 없습니다."));
+    public List<Station> stations() {
+        List<Station> stations = new ArrayList<>(sections.size() + 1);
+        stations.add(sections.get(0).upStation());
+        for (Section section : sections) {
+            stations.add(section.downStation());
+        }
+        return stations;
     }
 
-    private Section lastSection(Station downTerminalStation) {
-        return sections.stream()
-                .filter(section -> section.downStation().equals(downTerminalStation))
-                .findFirst()
-                .orElseThrow(() -> new ApplicationException("하행 종점역을 포함하는 구간을 찾을 수 없습니다."));
+    public List<Section> sections() {
+        return List.copyOf(sections);
     }
 
 }
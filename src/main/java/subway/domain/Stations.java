@@ -4,12 +4,23 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class Stations {
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
 
-    private final List<Station> stations;
+    private final long[] ids;
+    private final Station[] stations;
+    private final int mask;
+    private final int shift;
 
     public Stations(List<Station> stations) {
         validateSize(stations);
-        this.stations = new ArrayList<>(stations);
+        int capacity = capacityFor(stations.size());
+        this.ids = new long[capacity];
+        this.stations = new Station[capacity];
+        this.mask = capacity - 1;
+        this.shift = shiftFor(capacity);
+        for (Station station : stations) {
+            put(station);
+        }
     }
 
     private void validateSize(List<Station> stations) {
@@ -18,10 +29,51 @@ public class Stations {
         }
     }
 
+    static int capacityFor(int size) {
+        return Math.max(Integer.highestOneBit(size * 2 - 1) << 1, 2);
+    }
+
+    static int shiftFor(int capacity) {
+        return Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    static int slotOf(long id, int shift) {
+        return (int) ((id * HASH_MULTIPLIER) >>> shift);
+    }
+
+    private void put(Station station) {
+        long id = station.getId();
+        int slot = slotOf(id, shift);
+        while (stations[slot] != null && ids[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        ids[slot] = id;
+        stations[slot] = station;
+    }
+
     public Station findBy(Long stationId) {
-        return stations.stream()
-                .filter(station -> station.getId().equals(stationId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 역입니다."));
+        if (stationId == null) {
+            throw new IllegalArgumentException("존재하지 않는 역입니다.");
+        }
+        return findBy(stationId.longValue());
+    }
+
+    public Station findBy(long stationId) {
+        int slot = slotOf(stationId, shift);
+        while (stations[slot] != null) {
+            if (ids[slot] == stationId) {
+                return stations[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        throw new IllegalArgumentException("존재하지 않는 역입니다.");
+    }
+
+    public List<Station> findAllBy(List<Long> stationIds) {
+        List<Station> found = new ArrayList<>(stationIds.size());
+        for (Long stationId : stationIds) {
+            found.add(findBy(stationId));
+        }
+        return found;
     }
 }
@@ -0,0 +1,285 @@
+package subway.domain;
+
+import subway.exception.ApplicationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SubwayGraph {
+
+    private static final long UNREACHABLE = Long.MAX_VALUE;
+    private static final int NONE = -1;
+    private static final int[] NO_TARGETS = new int[0];
+    private static final long[] NO_WEIGHTS = new long[0];
+
+    private final Map<Long, Integer> indexes;
+    private final Station[] stations;
+    private final int[][] targets;
+    private final long[][] weights;
+
+    private SubwayGraph(Map<Long, Integer> indexes, Station[] stations, int[][] targets, long[][] weights) {
+        this.indexes = indexes;
+        this.stations = stations;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public static SubwayGraph empty() {
+        return new SubwayGraph(Map.of(), new Station[0], new int[0][], new long[0][]);
+    }
+
+    public static SubwayGraph of(List<SectionEdge> edges) {
+        Map<Long, Integer> indexes = new HashMap<>();
+        List<Station> stations = new ArrayList<>();
+        for (SectionEdge edge : edges) {
+            register(indexes, stations, edge.upStationId(), edge.upStationName());
+            register(indexes, stations, edge.downStationId(), edge.downStationName());
+        }
+
+        int[] degrees = new int[stations.size()];
+        for (SectionEdge edge : edges) {
+            degrees[indexes.get(edge.upStationId())]++;
+            degrees[indexes.get(edge.downStationId())]++;
+        }
+
+        int[][] targets = new int[stations.size()][];
+        long[][] weights = new long[stations.size()][];
+        for (int i = 0; i < degrees.length; i++) {
+            targets[i] = new int[degrees[i]];
+            weights[i] = new long[degrees[i]];
+        }
+
+        int[] cursor = new int[stations.size()];
+        for (SectionEdge edge : edges) {
+            int up = indexes.get(edge.upStationId());
+            int down = indexes.get(edge.downStationId());
+            targets[up][cursor[up]] = down;
+            weights[up][cursor[up]++] = edge.distance();
+            targets[down][cursor[down]] = up;
+            weights[down][cursor[down]++] = edge.distance();
+        }
+        return new SubwayGraph(indexes, stations.toArray(new Station[0]), targets, weights);
+    }
+
+    private static void register(Map<Long, Integer> indexes, List<Station> stations, Long stationId, String stationName) {
+        if (indexes.putIfAbsent(stationId, stations.size()) == null) {
+            stations.add(new Station(stationId, stationName));
+        }
+    }
+
+    public SubwayGraph withSections(List<SectionEdge> edges) {
+        Map<Long, Integer> nextIndexes = indexes;
+        List<Station> addedStations = new ArrayList<>();
+        for (SectionEdge edge : edges) {
+            nextIndexes = registerAdded(nextIndexes, addedStations, edge.upStationId(), edge.upStationName());
+            nextIndexes = registerAdded(nextIndexes, addedStations, edge.downStationId(), edge.downStationName());
+        }
+
+        int size = stations.length + addedStations.size();
+        Station[] nextStations = Arrays.copyOf(stations, size);
+        int[][] nextTargets = Arrays.copyOf(targets, size);
+        long[][] nextWeights = Arrays.copyOf(weights, size);
+        for (int i = stations.length; i < size; i++) {
+            nextStations[i] = addedStations.get(i - stations.length);
+            nextTargets[i] = NO_TARGETS;
+            nextWeights[i] = NO_WEIGHTS;
+        }
+
+        for (SectionEdge edge : edges) {
+            int up = nextIndexes.get(edge.upStationId());
+            int down = nextIndexes.get(edge.downStationId());
+            addEdge(nextTargets, nextWeights, up, down, edge.distance());
+            addEdge(nextTargets, nextWeights, down, up, edge.distance());
+        }
+        return new SubwayGraph(nextIndexes, nextStations, nextTargets, nextWeights);
+    }
+
+    private Map<Long, Integer> registerAdded(Map<Long, Integer> nextIndexes, List<Station> addedStations, Long stationId, String stationName) {
+        if (nextIndexes.containsKey(stationId)) {
+            return nextIndexes;
+        }
+        Map<Long, Integer> registered = nextIndexes == indexes ? new HashMap<>(indexes) : nextIndexes;
+        registered.put(stationId, stations.length + addedStations.size());
+        addedStations.add(new Station(stationId, stationName));
+        return registered;
+    }
+
+    private static void addEdge(int[][] targets, long[][] weights, int from, int to, long weight) {
+        int degree = targets[from].length;
+        targets[from] = Arrays.copyOf(targets[from], degree + 1);
+        weights[from] = Arrays.copyOf(weights[from], degree + 1);
+        targets[from][degree] = to;
+        weights[from][degree] = weight;
+    }
+
+    public SubwayGraph withoutSections(List<SectionEdge> edges) {
+        int[][] nextTargets = targets.clone();
+        long[][] nextWeights = weights.clone();
+        for (SectionEdge edge : edges) {
+            int up = indexOf(edge.upStationId());
+            int down = indexOf(edge.downStationId());
+            if (up == NONE || down == NONE) {
+                continue;
+            }
+            removeEdge(nextTargets, nextWeights, up, down, edge.distance());
+            removeEdge(nextTargets, nextWeights, down, up, edge.distance());
+        }
+        return new SubwayGraph(indexes, stations, nextTargets, nextWeights);
+    }
+
+    private static void removeEdge(int[][] targets, long[][] weights, int from, int to, long weight) {
+        int[] fromTargets = targets[from];
+        long[] fromWeights = weights[from];
+        for (int edge = 0; edge < fromTargets.length; edge++) {
+            if (fromTargets[edge] == to && fromWeights[edge] == weight) {
+                targets[from] = remove(fromTargets, edge);
+                weights[from] = remove(fromWeights, edge);
+                return;
+            }
+        }
+    }
+
+    private static int[] remove(int[] values, int index) {
+        int[] removed = new int[values.length - 1];
+        System.arraycopy(values, 0, removed, 0, index);
+        System.arraycopy(values, index + 1, removed, index, removed.length - index);
+        return removed;
+    }
+
+    private static long[] remove(long[] values, int index) {
+        long[] removed = new long[values.length - 1];
+        System.arraycopy(values, 0, removed, 0, index);
+        System.arraycopy(values, index + 1, removed, index, removed.length - index);
+        return removed;
+    }
+
+    private int indexOf(Long stationId) {
+        Integer index = indexes.get(stationId);
+        return index == null ? NONE : index;
+    }
+
+    private boolean isRegistered(int station) {
+        return station != NONE && targets[station].length > 0;
+    }
+
+    public Path findShortestPath(Long sourceStationId, Long targetStationId) {
+        if (sourceStationId.equals(targetStationId)) {
+            throw new ApplicationException("출발역과 도착역이 같습니다.");
+        }
+        int source = indexOf(sourceStationId);
+        int target = indexOf(targetStationId);
+        if (!isRegistered(source) || !isRegistered(target)) {
+            throw new ApplicationException("노선에 등록되지 않은 역입니다.");
+        }
+
+        long[] distances = new long[stations.length];
+        int[] previous = new int[stations.length];
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(previous, NONE);
+        distances[source] = 0;
+
+        DistanceHeap heap = new DistanceHeap(stations.length);
+        heap.push(source, 0);
+        while (!heap.isEmpty()) {
+            long distance = heap.peekDistance();
+            int station = heap.pop();
+            if (station == target) {
+                break;
+            }
+            if (distance > distances[station]) {
+                continue;
+            }
+            int[] stationTargets = targets[station];
+            long[] stationWeights = weights[station];
+            for (int edge = 0; edge < stationTargets.length; edge++) {
+                long candidate = distance + stationWeights[edge];
+                int next = stationTargets[edge];
+                if (candidate < distances[next]) {
+                    distances[next] = candidate;
+                    previous[next] = station;
+                    heap.push(next, candidate);
+                }
+            }
+        }
+
+        if (distances[target] == UNREACHABLE) {
+            throw new ApplicationException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+        return new Path(stationsBetween(previous, target), distances[target]);
+    }
+
+    private List<Station> stationsBetween(int[] previous, int target) {
+        List<Station> path = new ArrayList<>();
+        for (int station = target; station != NONE; station = previous[station]) {
+            path.add(stations[station]);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private static class DistanceHeap {
+        private int[] stations;
+        private long[] distances;
+        private int size;
+
+        DistanceHeap(int capacity) {
+            this.stations = new int[Math.max(capacity, 1)];
+            this.distances = new long[stations.length];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long peekDistance() {
+            return distances[0];
+        }
+
+        void push(int station, long distance) {
+            if (size == stations.length) {
+                stations = Arrays.copyOf(stations, size * 2);
+                distances = Arrays.copyOf(distances, size * 2);
+            }
+            int child = size++;
+            while (child > 0) {
+                int parent = (child - 1) >>> 1;
+                if (distances[parent] <= distance) {
+                    break;
+                }
+                stations[child] = stations[parent];
+                distances[child] = distances[parent];
+                child = parent;
+            }
+            stations[child] = station;
+            distances[child] = distance;
+        }
+
+        int pop() {
+            int top = stations[0];
+            int lastStation = stations[--size];
+            long lastDistance = distances[size];
+
+            int parent = 0;
+            int half = size >>> 1;
+            while (parent < half) {
+                int child = 2 * parent + 1;
+                if (child + 1 < size && distances[child + 1] < distances[child]) {
+                    child++;
+                }
+                if (lastDistance <= distances[child]) {
+                    break;
+                }
+                stations[parent] = stations[child];
+                distances[parent] = distances[child];
+                parent = child;
+            }
+            stations[parent] = lastStation;
+            distances[parent] = lastDistance;
+            return top;
+        }
+    }
+}
@@ -1,27 +1,47 @@
 package subway.exception;
 
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import javax.servlet.http.HttpServletRequest;
+
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.OK;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+    public static final String ERROR_ATTRIBUTE = "subway.error";
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex) {
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpServletRequest request) {
+        markError(request, ex);
         return ResponseEntity.status(BAD_REQUEST).build();
     }
 
     @ExceptionHandler(ApplicationException.class)
-    protected ResponseEntity<ExceptionResponse> handleApplication(ApplicationException ex) {
+    protected ResponseEntity<ExceptionResponse> handleApplication(ApplicationException ex, HttpServletRequest request) {
+        markError(request, ex);
         ExceptionResponse response = ExceptionResponse.builder()
                 .message(ex.getMessage())
                 .build();
         return ResponseEntity.status(OK).body(response);
     }
 
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    protected ResponseEntity<ExceptionResponse> handleConcurrencyFailure(ConcurrencyFailureException ex, HttpServletRequest request) {
+        markError(request, ex);
+        ExceptionResponse response = ExceptionResponse.builder()
+                .message("다른 요청과 동시에 노선을 변경하여 처리하지 못했습니다. 다시 시도해 주세요.")
+                .build();
+        return ResponseEntity.status(CONFLICT).body(response);
+    }
+
+    private void markError(HttpServletRequest request, Exception ex) {
+        request.setAttribute(ERROR_ATTRIBUTE, ex.getClass().getSimpleName());
+    }
+
 }
@@ -0,0 +1,12 @@
+package subway.logging;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.AsyncAppenderBase;
+
+public class AsyncAccessAppender extends AsyncAppenderBase<IAccessEvent> {
+
+    @Override
+    protected void preprocess(IAccessEvent event) {
+        event.prepareForDeferredProcessing();
+    }
+}
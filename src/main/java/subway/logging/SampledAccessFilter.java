@@ -0,0 +1,35 @@
+package subway.logging;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static subway.exception.GlobalExceptionHandler.ERROR_ATTRIBUTE;
+
+public class SampledAccessFilter extends Filter<IAccessEvent> {
+    private static final int ERROR_STATUS = 400;
+
+    private double sampleRate;
+
+    @Override
+    public FilterReply decide(IAccessEvent event) {
+        if (event.getStatusCode() >= ERROR_STATUS || isHandledError(event) || isSampled()) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    private boolean isHandledError(IAccessEvent event) {
+        return !IAccessEvent.NA.equals(event.getAttribute(ERROR_ATTRIBUTE));
+    }
+
+    private boolean isSampled() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
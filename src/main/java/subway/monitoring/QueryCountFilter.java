@@ -0,0 +1,152 @@
+package subway.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.RequestPath;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.ServletRequestPathUtils;
+import subway.exception.ExceptionResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private static final String METRIC_NAME = "hibernate.statements.per.request";
+    private static final String EXCEEDED_METRIC_NAME = "hibernate.statements.budget.exceeded";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final QueryCounter queryCounter;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final HandlerMapping handlerMapping;
+    private final long maxStatements;
+    private final boolean failOnExceed;
+
+    public QueryCountFilter(QueryCounter queryCounter, MeterRegistry meterRegistry, ObjectMapper objectMapper,
+                            @Lazy @Qualifier("requestMappingHandlerMapping") HandlerMapping handlerMapping,
+                            @Value("${subway.query-budget.max-statements:20}") long maxStatements,
+                            @Value("${subway.query-budget.fail-on-exceed:false}") boolean failOnExceed) {
+        this.queryCounter = queryCounter;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.handlerMapping = handlerMapping;
+        this.maxStatements = maxStatements;
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (failOnExceed && !isStreaming(request)) {
+            doFilterStrictly(request, response, filterChain);
+            return;
+        }
+        queryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, queryCounter.stop());
+        }
+    }
+
+    private void doFilterStrictly(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        queryCounter.start();
+        long count;
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            count = queryCounter.stop();
+            record(request, count);
+        }
+
+        if (count > maxStatements) {
+            wrapper.resetBuffer();
+            wrapper.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            wrapper.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            wrapper.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(wrapper.getOutputStream(), new ExceptionResponse(exceededMessage(request, count)));
+        }
+        wrapper.setHeader(QUERY_COUNT_HEADER, Long.toString(count));
+        wrapper.copyBodyToResponse();
+    }
+
+    private boolean isStreaming(HttpServletRequest request) {
+        Object handler = handlerOf(request);
+        if (!(handler instanceof HandlerMethod)) {
+            return false;
+        }
+        MethodParameter returnType = ((HandlerMethod) handler).getReturnType();
+        Class<?> bodyType = ResponseEntity.class.isAssignableFrom(returnType.getParameterType())
+                ? ResolvableType.forMethodParameter(returnType).getGeneric().resolve(Object.class)
+                : returnType.getParameterType();
+        return StreamingResponseBody.class.isAssignableFrom(bodyType)
+                || ResponseBodyEmitter.class.isAssignableFrom(bodyType)
+                || ReactiveAdapterRegistry.getSharedInstance().getAdapter(bodyType) != null;
+    }
+
+    private Object handlerOf(HttpServletRequest request) {
+        RequestPath previousPath = (RequestPath) request.getAttribute(ServletRequestPathUtils.PATH_ATTRIBUTE);
+        ServletRequestPathUtils.parseAndCache(request);
+        try {
+            HandlerExecutionChain chain = handlerMapping.getHandler(request);
+            return chain == null ? null : chain.getHandler();
+        } catch (Exception e) {
+            return null;
+        } finally {
+            ServletRequestPathUtils.setParsedRequestPath(previousPath, request);
+        }
+    }
+
+    private void record(HttpServletRequest request, long count) {
+        String method = request.getMethod();
+        String uri = uriOf(request);
+        DistributionSummary.builder(METRIC_NAME)
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count);
+
+        if (count > maxStatements) {
+            meterRegistry.counter(EXCEEDED_METRIC_NAME, "method", method, "uri", uri).increment();
+            log.warn(exceededMessage(request, count));
+        }
+    }
+
+    private String exceededMessage(HttpServletRequest request, long count) {
+        return String.format("요청당 쿼리 수가 허용치를 초과했습니다. [%s %s] %d / %d",
+                request.getMethod(), uriOf(request), count, maxStatements);
+    }
+
+    private String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+}
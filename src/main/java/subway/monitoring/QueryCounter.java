@@ -0,0 +1,33 @@
+package subway.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QueryCounter implements StatementInspector {
+
+    private final ThreadLocal<Count> counts = new ThreadLocal<>();
+
+    public void start() {
+        counts.set(new Count());
+    }
+
+    public long stop() {
+        Count count = counts.get();
+        counts.remove();
+        return count == null ? 0 : count.value;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Count count = counts.get();
+        if (count != null) {
+            count.value++;
+        }
+        return sql;
+    }
+
+    private static class Count {
+        private long value;
+    }
+}
@@ -1,7 +1,39 @@
 package subway.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import subway.domain.Line;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+
 public interface LineRepository extends JpaRepository<Line, Long> {
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    Optional<Line> findForSectionChangeById(Long id);
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("select distinct l from Line l left join fetch l.lineStations ls left join fetch ls.station "
+            + "order by l.id, ls.position")
+    List<Line> findAllWithLineStations();
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("select distinct l from Line l left join fetch l.lineStations ls left join fetch ls.station "
+            + "where l.id = :id order by ls.position")
+    Optional<Line> findWithLineStationsById(@Param("id") Long id);
+    @Query("select l.id from Line l order by l.id")
+    List<Long> findAllIds();
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new subway.repository.LineRow(l.id, l.name, l.color) from Line l order by l.id")
+    Stream<LineRow> streamAllForExport();
+    @Modifying
+    @Query("delete from Line l where l.id = :id")
+    int deleteInBulkById(@Param("id") Long id);
 }
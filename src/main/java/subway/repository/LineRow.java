@@ -0,0 +1,25 @@
+package subway.repository;
+
+public class LineRow {
+    private final Long id;
+    private final String name;
+    private final String color;
+
+    public LineRow(Long id, String name, String color) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+    }
+
+    public Long id() {
+        return id;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String color() {
+        return color;
+    }
+}
@@ -0,0 +1,29 @@
+package subway.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import subway.domain.LineStation;
+
+import java.util.List;
+
+@Repository
+public class LineStationBulkRepository {
+    private static final String INSERT_SQL =
+            "insert into line_station (line_id, position, station_id, cumulative_distance) values (?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LineStationBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void saveAll(List<LineStation> lineStations) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, lineStations, BATCH_SIZE, (statement, lineStation) -> {
+            statement.setLong(1, lineStation.line().getId());
+            statement.setInt(2, lineStation.position());
+            statement.setLong(3, lineStation.station().getId());
+            statement.setLong(4, lineStation.cumulativeDistance());
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package subway.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import subway.domain.Line;
+import subway.domain.LineStation;
+
+import java.util.List;
+
+public interface LineStationRepository extends JpaRepository<LineStation, Long> {
+    List<LineStation> findByLineOrderByPosition(Line line);
+    @Modifying
+    @Query("delete from LineStation ls where ls.line.id = :lineId")
+    int deleteAllByLineId(@Param("lineId") Long lineId);
+}
@@ -0,0 +1,29 @@
+package subway.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import subway.domain.Section;
+
+import java.util.List;
+
+@Repository
+public class SectionBulkRepository {
+    private static final String INSERT_SQL =
+            "insert into section (line_id, up_station_id, down_station_id, distance) values (?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SectionBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void saveAll(List<Section> sections) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, sections, BATCH_SIZE, (statement, section) -> {
+            statement.setLong(1, section.line().getId());
+            statement.setLong(2, section.upStation().getId());
+            statement.setLong(3, section.downStation().getId());
+            statement.setLong(4, section.distance());
+        });
+    }
+}
@@ -2,14 +2,32 @@ package subway.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import subway.domain.Line;
 import subway.domain.Section;
+import subway.domain.SectionEdge;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface SectionRepository extends JpaRepository<Section, Long> {
-    List<Section> findAllByLineIn(List<Line> lines);
     List<Section> findByLine(Line line);
     @Modifying
-    void deleteByLine(Line line);
+    @Query("delete from Section s where s.line.id = :lineId")
+    int deleteAllByLineId(@Param("lineId") Long lineId);
+    @Query("select new subway.domain.SectionEdge(u.id, u.name, d.id, d.name, s.distance) "
+            + "from Section s join s.upStation u join s.downStation d")
+    List<SectionEdge> findAllEdges();
+    @Query("select new subway.domain.SectionEdge(u.id, u.name, d.id, d.name, s.distance) "
+            + "from Section s join s.upStation u join s.downStation d where s.line.id = :lineId")
+    List<SectionEdge> findEdgesByLineId(@Param("lineId") Long lineId);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new subway.repository.SectionRow(s.id, s.line.id, s.upStation.id, s.downStation.id, s.distance) "
+            + "from Section s order by s.line.id, s.id")
+    Stream<SectionRow> streamAllForExport();
 }
@@ -0,0 +1,37 @@
+package subway.repository;
+
+public class SectionRow {
+    private final Long id;
+    private final Long lineId;
+    private final Long upStationId;
+    private final Long downStationId;
+    private final Long distance;
+
+    public SectionRow(Long id, Long lineId, Long upStationId, Long downStationId, Long distance) {
+        this.id = id;
+        this.lineId = lineId;
+        this.upStationId = upStationId;
+        this.downStationId = downStationId;
+        this.distance = distance;
+    }
+
+    public Long id() {
+        return id;
+    }
+
+    public Long lineId() {
+        return lineId;
+    }
+
+    public Long upStationId() {
+        return upStationId;
+    }
+
+    public Long downStationId() {
+        return downStationId;
+    }
+
+    public Long distance() {
+        return distance;
+    }
+}
@@ -0,0 +1,37 @@
+package subway.repository;
+
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.Queryable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import subway.domain.Station;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+@Repository
+public class StationBulkRepository {
+    private static final String INSERT_SQL = "insert into station (name) values (?)";
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public StationBulkRepository(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    public void saveAll(List<String> names) {
+        invalidateStationQuerySpace();
+        jdbcTemplate.batchUpdate(INSERT_SQL, names, BATCH_SIZE,
+                (statement, name) -> statement.setString(1, name));
+    }
+
+    private void invalidateStationQuerySpace() {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        Queryable persister = (Queryable) session.getFactory().getMetamodel().entityPersister(Station.class);
+        session.getActionQueue().addAction(new BulkOperationCleanupAction(session, persister));
+    }
+}
@@ -1,10 +1,24 @@
 package subway.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import subway.domain.Station;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface StationRepository extends JpaRepository<Station, Long> {
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Station> findByIdIn(List<Long> ids);
+    Slice<Station> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new subway.repository.StationRow(s.id, s.name) from Station s order by s.id")
+    Stream<StationRow> streamAllForExport();
 }
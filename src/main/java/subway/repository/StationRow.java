@@ -0,0 +1,19 @@
+package subway.repository;
+
+public class StationRow {
+    private final Long id;
+    private final String name;
+
+    public StationRow(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long id() {
+        return id;
+    }
+
+    public String name() {
+        return name;
+    }
+}
@@ -1,30 +1,53 @@
 package subway.service;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import subway.controller.dto.LineCreateRequest;
+import subway.controller.dto.LineImportRequest;
 import subway.controller.dto.LineResponse;
 import subway.controller.dto.LineUpdateRequest;
 import subway.domain.Line;
 import subway.domain.Section;
+import subway.domain.SectionEdge;
+import subway.domain.Sections;
 import subway.domain.Station;
 import subway.domain.Stations;
+import subway.exception.ApplicationException;
 import subway.repository.LineRepository;
+import subway.repository.SectionBulkRepository;
 import subway.repository.SectionRepository;
 import subway.repository.StationRepository;
+import subway.service.event.LineUpdatedEvent;
+import subway.service.event.SectionsAddedEvent;
+import subway.service.event.SectionsRemovedEvent;
+import subway.service.lock.LineWriteLock;
 
 import java.util.List;
 
+import static subway.config.CacheConfig.LINE;
+import static subway.config.CacheConfig.LINES;
+
 @Service
 public class LineService {
     private final LineRepository lineRepository;
     private final StationRepository stationRepository;
     private final SectionRepository sectionRepository;
+    private final SectionBulkRepository sectionBulkRepository;
+    private final LineStationProjection lineStationProjection;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public LineService(LineRepository lineRepository, StationRepository stationRepository, SectionRepository sectionRepository) {
+    public LineService(LineRepository lineRepository, StationRepository stationRepository, SectionRepository sectionRepository,
+                       SectionBulkRepository sectionBulkRepository, LineStationProjection lineStationProjection,
+                       ApplicationEventPublisher eventPublisher) {
         this.lineRepository = lineRepository;
         this.stationRepository = stationRepository;
         this.sectionRepository = sectionRepository;
+        this.sectionBulkRepository = sectionBulkRepository;
+        this.lineStationProjection = lineStationProjection;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -38,33 +61,72 @@ public class LineService {
         Station upStation = stations.findBy(request.getUpStationId());
         Station downStation = stations.findBy(request.getDownStationId());
 
-        sectionRepository.save(new Section(
+        Section section = sectionRepository.save(new Section(
                 line,
                 upStation,
                 downStation,
                 request.getDistance()
         ));
+        lineStationProjection.create(line, new Sections(List.of(section)));
+        eventPublisher.publishEvent(new SectionsAddedEvent(List.of(SectionEdge.of(section))));
         return LineResponse.ofWithStations(line, List.of(upStation, downStation));
     }
 
+    @Transactional
+    public LineResponse importLine(LineImportRequest request) {
+        validateDistanceCount(request);
+        Line line = lineRepository.save(new Line(
+                request.getName(),
+                request.getColor()
+        ));
+        List<Station> stations = new Stations(stationRepository.findByIdIn(request.getStationIds()))
+                .findAllBy(request.getStationIds());
+
+        Sections sections = new Sections(List.of(sectionOf(line, stations, request, 0)));
+        for (int i = 1; i < request.getDistances().size(); i++) {
+            sections.add(sectionOf(line, stations, request, i));
+        }
+
+        sectionBulkRepository.saveAll(sections.sections());
+        lineStationProjection.create(line, sections);
+        eventPublisher.publishEvent(new SectionsAddedEvent(SectionEdge.listOf(sections.sections())));
+        return LineResponse.ofWithStations(line, sections.stations());
+    }
+
+    private Section sectionOf(Line line, List<Station> stations, LineImportRequest request, int index) {
+        return new Section(
+                line,
+                stations.get(index),
+                stations.get(index + 1),
+                request.getDistances().get(index)
+        );
+    }
+
+    private void validateDistanceCount(LineImportRequest request) {
+        if (request.getDistances().size() != request.getStationIds().size() - 1) {
+            throw new ApplicationException("구간 거리의 개수는 역의 개수보다 하나 적어야 합니다.");
+        }
+    }
+
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = LINES, key = "@networkVersion.current()")
     public List<LineResponse> findLines() {
-        List<Line> lines = lineRepository.findAll();
-        List<Section> sections = sectionRepository.findAllByLineIn(lines);
-        return LineResponse.listOf(lines, sections);
+        return LineResponse.listOf(lineRepository.findAllWithLineStations());
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = LINE, key = "#id + ':' + @networkVersion.current()")
     public LineResponse findLine(Long id) {
-        Line line = findBy(id);
-        List<Section> sections = sectionRepository.findByLine(line);
-        return LineResponse.ofWithSections(line, sections);
+        Line line = lineRepository.findWithLineStationsById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 노선입니다."));
+        return LineResponse.of(line);
     }
 
     @Transactional
     public void updateLine(Long id, LineUpdateRequest request) {
         Line line = findBy(id);
         line.update(request.getName(), request.getColor());
+        eventPublisher.publishEvent(new LineUpdatedEvent(id));
     }
 
     private Line findBy(Long id) {
@@ -72,9 +134,15 @@ public class LineService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 노선입니다."));
     }
 
+    @LineWriteLock
     @Transactional
     public void deleteLine(Long id) {
-        sectionRepository.deleteByLine(new Line(id));
-        lineRepository.deleteById(id);
+        List<SectionEdge> edges = sectionRepository.findEdgesByLineId(id);
+        sectionRepository.deleteAllByLineId(id);
+        lineStationProjection.delete(id);
+        if (lineRepository.deleteInBulkById(id) == 0) {
+            throw new EmptyResultDataAccessException("존재하지 않는 노선입니다.", 1);
+        }
+        eventPublisher.publishEvent(new SectionsRemovedEvent(edges));
     }
 }
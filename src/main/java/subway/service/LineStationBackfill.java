@@ -0,0 +1,33 @@
+package subway.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import subway.repository.LineRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+public class LineStationBackfill {
+    private final LineRepository lineRepository;
+    private final LineStationProjection lineStationProjection;
+
+    public LineStationBackfill(LineRepository lineRepository, LineStationProjection lineStationProjection) {
+        this.lineRepository = lineRepository;
+        this.lineStationProjection = lineStationProjection;
+    }
+
+    public List<Long> backfill() {
+        List<Long> rebuiltLineIds = new ArrayList<>();
+        for (Long lineId : lineRepository.findAllIds()) {
+            if (lineStationProjection.isStale(lineId) && lineStationProjection.rebuild(lineId)) {
+                rebuiltLineIds.add(lineId);
+            }
+        }
+        if (!rebuiltLineIds.isEmpty()) {
+            log.warn("구간과 일치하지 않는 노선역 정보를 다시 만들었습니다. {}", rebuiltLineIds);
+        }
+        return rebuiltLineIds;
+    }
+}
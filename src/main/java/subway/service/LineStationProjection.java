@@ -0,0 +1,97 @@
+package subway.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import subway.domain.Line;
+import subway.domain.LineStation;
+import subway.domain.Section;
+import subway.domain.Sections;
+import subway.repository.LineRepository;
+import subway.repository.LineStationBulkRepository;
+import subway.repository.LineStationRepository;
+import subway.repository.SectionRepository;
+import subway.service.event.LineUpdatedEvent;
+import subway.service.lock.LineWriteLock;
+
+import java.util.List;
+
+@Component
+public class LineStationProjection {
+    private final LineStationRepository lineStationRepository;
+    private final LineStationBulkRepository lineStationBulkRepository;
+    private final LineRepository lineRepository;
+    private final SectionRepository sectionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LineStationProjection(LineStationRepository lineStationRepository,
+                                 LineStationBulkRepository lineStationBulkRepository,
+                                 LineRepository lineRepository,
+                                 SectionRepository sectionRepository,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.lineStationRepository = lineStationRepository;
+        this.lineStationBulkRepository = lineStationBulkRepository;
+        this.lineRepository = lineRepository;
+        this.sectionRepository = sectionRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void create(Line line, Sections sections) {
+        lineStationBulkRepository.saveAll(LineStation.listOf(line, sections));
+    }
+
+    public void refresh(Line line, Sections sections) {
+        replace(lineStationRepository.findByLineOrderByPosition(line), LineStation.listOf(line, sections));
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isStale(Long lineId) {
+        Line line = new Line(lineId);
+        return isStale(lineStationRepository.findByLineOrderByPosition(line), targetOf(line));
+    }
+
+    @LineWriteLock
+    @Transactional
+    public boolean rebuild(Long lineId) {
+        Line line = lineRepository.findForSectionChangeById(lineId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 노선입니다."));
+        List<LineStation> current = lineStationRepository.findByLineOrderByPosition(line);
+        List<LineStation> target = targetOf(line);
+        if (!isStale(current, target)) {
+            return false;
+        }
+        replace(current, target);
+        eventPublisher.publishEvent(new LineUpdatedEvent(lineId));
+        return true;
+    }
+
+    public void delete(Long lineId) {
+        lineStationRepository.deleteAllByLineId(lineId);
+    }
+
+    private List<LineStation> targetOf(Line line) {
+        List<Section> sections = sectionRepository.findByLine(line);
+        return sections.isEmpty() ? List.of() : LineStation.listOf(line, new Sections(sections));
+    }
+
+    private boolean isStale(List<LineStation> current, List<LineStation> target) {
+        return current.size() != target.size() || unchangedCount(current, target) < target.size();
+    }
+
+    private void replace(List<LineStation> current, List<LineStation> target) {
+        int unchanged = unchangedCount(current, target);
+        if (unchanged < current.size()) {
+            lineStationRepository.deleteAllInBatch(current.subList(unchanged, current.size()));
+        }
+        lineStationBulkRepository.saveAll(target.subList(unchanged, target.size()));
+    }
+
+    private int unchangedCount(List<LineStation> current, List<LineStation> target) {
+        int unchanged = 0;
+        while (unchanged < current.size() && unchanged < target.size()
+                && current.get(unchanged).isSameStop(target.get(unchanged))) {
+            unchanged++;
+        }
+        return unchanged;
+    }
+}
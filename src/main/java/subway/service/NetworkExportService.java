@@ -0,0 +1,82 @@
+package subway.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import subway.controller.dto.LineExportResponse;
+import subway.controller.dto.SectionExportResponse;
+import subway.controller.dto.StationExportResponse;
+import subway.repository.LineRepository;
+import subway.repository.LineRow;
+import subway.repository.SectionRepository;
+import subway.repository.SectionRow;
+import subway.repository.StationRepository;
+import subway.repository.StationRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+@Service
+public class NetworkExportService {
+    private static final String RECORD_SEPARATOR = "\n";
+
+    private final LineRepository lineRepository;
+    private final StationRepository stationRepository;
+    private final SectionRepository sectionRepository;
+    private final ObjectWriter writer;
+
+    public NetworkExportService(LineRepository lineRepository, StationRepository stationRepository,
+                                SectionRepository sectionRepository, ObjectMapper objectMapper) {
+        this.lineRepository = lineRepository;
+        this.stationRepository = stationRepository;
+        this.sectionRepository = sectionRepository;
+        this.writer = objectMapper.writer()
+                .withRootValueSeparator(RECORD_SEPARATOR)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Transactional(readOnly = true)
+    public void export(OutputStream outputStream) throws IOException {
+        try (SequenceWriter records = writer.writeValues(outputStream)) {
+            try (Stream<LineRow> lines = lineRepository.streamAllForExport()) {
+                lines.forEach(line -> write(records, toResponse(line)));
+            }
+            try (Stream<StationRow> stations = stationRepository.streamAllForExport()) {
+                stations.forEach(station -> write(records, toResponse(station)));
+            }
+            try (Stream<SectionRow> sections = sectionRepository.streamAllForExport()) {
+                sections.forEach(section -> write(records, toResponse(section)));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private LineExportResponse toResponse(LineRow line) {
+        return new LineExportResponse(line.id(), line.name(), line.color());
+    }
+
+    private StationExportResponse toResponse(StationRow station) {
+        return new StationExportResponse(station.id(), station.name());
+    }
+
+    private SectionExportResponse toResponse(SectionRow section) {
+        return new SectionExportResponse(section.id(), section.lineId(), section.upStationId(),
+                section.downStationId(), section.distance());
+    }
+
+    private void write(SequenceWriter records, Object record) {
+        try {
+            records.write(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
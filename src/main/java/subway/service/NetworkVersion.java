@@ -0,0 +1,62 @@
+package subway.service;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.service.event.NetworkChangedEvent;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static subway.config.CacheConfig.LINE;
+import static subway.config.CacheConfig.LINES;
+import static subway.config.CacheConfig.STATIONS;
+
+@Component
+public class NetworkVersion {
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String NDJSON_SUFFIX = "-ndjson";
+    private static final List<String> VERSIONED_CACHES = List.of(LINE, LINES, STATIONS);
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong version = new AtomicLong();
+    private final CacheManager cacheManager;
+
+    public NetworkVersion(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    public String eTag() {
+        return eTagOf("");
+    }
+
+    public String ndjsonETag() {
+        return eTagOf(NDJSON_SUFFIX);
+    }
+
+    private String eTagOf(String suffix) {
+        return "\"" + epoch + "-" + current() + suffix + "\"";
+    }
+
+    public boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag)
+                .anyMatch(tag -> tag.equals(ANY) || tag.equals(eTag));
+    }
+
+    @TransactionalEventListener
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        version.incrementAndGet();
+        VERSIONED_CACHES.forEach(name -> cacheManager.getCache(name).clear());
+    }
+}
@@ -0,0 +1,45 @@
+package subway.service;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.controller.dto.PathResponse;
+import subway.domain.SubwayGraph;
+import subway.repository.SectionRepository;
+import subway.service.event.SectionsAddedEvent;
+import subway.service.event.SectionsRemovedEvent;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+public class PathService implements InitializingBean {
+    private final SectionRepository sectionRepository;
+    private final AtomicReference<SubwayGraph> graph = new AtomicReference<>(SubwayGraph.empty());
+
+    public PathService(SectionRepository sectionRepository) {
+        this.sectionRepository = sectionRepository;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        reload();
+    }
+
+    public PathResponse findPath(Long sourceStationId, Long targetStationId) {
+        return PathResponse.of(graph.get().findShortestPath(sourceStationId, targetStationId));
+    }
+
+    public void reload() {
+        graph.set(SubwayGraph.of(sectionRepository.findAllEdges()));
+    }
+
+    @TransactionalEventListener
+    public void onSectionsAdded(SectionsAddedEvent event) {
+        graph.updateAndGet(current -> current.withSections(event.getEdges()));
+    }
+
+    @TransactionalEventListener
+    public void onSectionsRemoved(SectionsRemovedEvent event) {
+        graph.updateAndGet(current -> current.withoutSections(event.getEdges()));
+    }
+}
@@ -1,6 +1,10 @@
 package subway.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import subway.controller.dto.SectionCreateRequest;
@@ -8,6 +12,11 @@ import subway.domain.*;
 import subway.repository.LineRepository;
 import subway.repository.SectionRepository;
 import subway.repository.StationRepository;
+import subway.service.event.SectionsAddedEvent;
+import subway.service.event.SectionsRemovedEvent;
+import subway.service.lock.LineWriteLock;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -16,7 +25,12 @@ public class SectionService {
     private final LineRepository lineRepository;
     private final SectionRepository sectionRepository;
     private final StationRepository stationRepository;
+    private final LineStationProjection lineStationProjection;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @LineWriteLock
+    @Retryable(value = OptimisticLockingFailureException.class, maxAttempts = 3,
+            backoff = @Backoff(delay = 20, maxDelay = 200, multiplier = 2, random = true))
     @Transactional
     public Long createSection(Long lineId, SectionCreateRequest request) {
         Line line = findBy(lineId);
@@ -25,25 +39,33 @@ public class SectionService {
         Stations stations = new Stations(stationRepository.findByIdIn(request.stationIds()));
         Station upStation = stations.findBy(request.getUpStationId());
         Station downStation = stations.findBy(request.getDownStationId());
-        sections.validateRegisterStationBy(upStation, downStation);
+        Section section = new Section(line, upStation, downStation, request.getDistance());
+        sections.add(section);
 
-        Section section = sectionRepository.save(
-                new Section(line, upStation, downStation, request.getDistance())
-        );
+        sectionRepository.save(section);
+        lineStationProjection.refresh(line, sections);
+        eventPublisher.publishEvent(new SectionsAddedEvent(List.of(SectionEdge.of(section))));
 
         return section.id();
     }
 
+    @LineWriteLock
+    @Retryable(value = OptimisticLockingFailureException.class, maxAttempts = 3,
+            backoff = @Backoff(delay = 20, maxDelay = 200, multiplier = 2, random = true))
     @Transactional
     public void deleteSection(Long lineId, Long stationId) {
         Line line = findBy(lineId);
         Sections sections = findBy(line);
         sections.validateDeleteSection(stationId);
+        Section lastSection = sections.findLastSection();
         sectionRepository.deleteById(stationId);
+        sections.remove(lastSection);
+        lineStationProjection.refresh(line, sections);
+        eventPublisher.publishEvent(new SectionsRemovedEvent(List.of(SectionEdge.of(lastSection))));
     }
 
     private Line findBy(Long lineId) {
-        return lineRepository.findById(lineId)
+        return lineRepository.findForSectionChangeById(lineId)
                 .orElseThrow(() -> new IllegalArgumentException("노선이 존재하지 않습니다."));
     }
 
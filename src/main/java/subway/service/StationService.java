@@ -1,39 +1,118 @@
 package subway.service;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import subway.domain.Station;
+import subway.repository.StationBulkRepository;
 import subway.repository.StationRepository;
 import subway.controller.dto.StationCreateRequest;
+import subway.controller.dto.StationImportErrorResponse;
+import subway.controller.dto.StationImportResponse;
+import subway.controller.dto.StationPageResponse;
 import subway.controller.dto.StationResponse;
+import subway.exception.ApplicationException;
+import subway.service.event.StationChangedEvent;
+import subway.service.event.StationsImportedEvent;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static subway.config.CacheConfig.STATIONS;
+
 @Service
 @Transactional(readOnly = true)
 public class StationService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_IMPORT_SIZE = 10_000;
+    private static final int MAX_NAME_LENGTH = 20;
+
     private final StationRepository stationRepository;
+    private final StationBulkRepository stationBulkRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public StationService(StationRepository stationRepository) {
+    public StationService(StationRepository stationRepository, StationBulkRepository stationBulkRepository,
+                          ApplicationEventPublisher eventPublisher) {
         this.stationRepository = stationRepository;
+        this.stationBulkRepository = stationBulkRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public StationResponse saveStation(StationCreateRequest stationCreateRequest) {
         Station station = stationRepository.save(new Station(stationCreateRequest.getName()));
+        eventPublisher.publishEvent(new StationChangedEvent());
         return createStationResponse(station);
     }
 
+    @Transactional
+    public StationImportResponse saveStations(List<StationCreateRequest> requests) {
+        validateImportSize(requests);
+        List<String> names = new ArrayList<>();
+        List<StationImportErrorResponse> errors = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            StationCreateRequest request = requests.get(index);
+            String name = request == null ? null : request.getName();
+            String error = validateName(name);
+            if (error == null) {
+                names.add(name);
+            } else {
+                errors.add(new StationImportErrorResponse(index, name, error));
+            }
+        }
+
+        if (!names.isEmpty()) {
+            stationBulkRepository.saveAll(names);
+            eventPublisher.publishEvent(new StationsImportedEvent());
+        }
+        return new StationImportResponse(names.size(), errors);
+    }
+
+    private void validateImportSize(List<StationCreateRequest> requests) {
+        if (requests.size() > MAX_IMPORT_SIZE) {
+            throw new ApplicationException("한 번에 등록할 수 있는 지하철역은 " + MAX_IMPORT_SIZE + "개 이하입니다.");
+        }
+    }
+
+    private String validateName(String name) {
+        if (name == null || name.isBlank()) {
+            return "지하철역 이름이 비어 있습니다.";
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            return "지하철역 이름은 " + MAX_NAME_LENGTH + "자를 넘을 수 없습니다.";
+        }
+        return null;
+    }
+
+    @Cacheable(cacheNames = STATIONS, key = "@networkVersion.current()")
     public List<StationResponse> findAllStations() {
         return stationRepository.findAll().stream()
                 .map(this::createStationResponse)
                 .collect(Collectors.toList());
     }
 
+    public StationPageResponse findStations(Long cursor, int limit) {
+        validatePageSize(limit);
+        Slice<Station> stations = stationRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, limit));
+        List<StationResponse> stationResponses = stations.map(this::createStationResponse).getContent();
+        Long nextCursor = stations.hasNext() ? stationResponses.get(stationResponses.size() - 1).getId() : null;
+        return new StationPageResponse(stationResponses, nextCursor);
+    }
+
+    private void validatePageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ApplicationException("한 번에 조회할 수 있는 지하철역은 1개 이상 " + MAX_PAGE_SIZE + "개 이하입니다.");
+        }
+    }
+
     @Transactional
     public void deleteStationById(Long id) {
         stationRepository.deleteById(id);
+        eventPublisher.publishEvent(new StationChangedEvent());
     }
 
     private StationResponse createStationResponse(Station station) {
@@ -0,0 +1,13 @@
+package subway.service.event;
+
+public class LineUpdatedEvent implements NetworkChangedEvent {
+    private final Long lineId;
+
+    public LineUpdatedEvent(Long lineId) {
+        this.lineId = lineId;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+}
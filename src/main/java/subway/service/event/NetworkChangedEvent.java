@@ -0,0 +1,4 @@
+package subway.service.event;
+
+public interface NetworkChangedEvent {
+}
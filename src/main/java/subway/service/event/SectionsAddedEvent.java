@@ -0,0 +1,17 @@
+package subway.service.event;
+
+import subway.domain.SectionEdge;
+
+import java.util.List;
+
+public class SectionsAddedEvent implements NetworkChangedEvent {
+    private final List<SectionEdge> edges;
+
+    public SectionsAddedEvent(List<SectionEdge> edges) {
+        this.edges = List.copyOf(edges);
+    }
+
+    public List<SectionEdge> getEdges() {
+        return edges;
+    }
+}
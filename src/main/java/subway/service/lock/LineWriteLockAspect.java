@@ -0,0 +1,31 @@
+package subway.service.lock;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 20)
+public class LineWriteLockAspect {
+    private final LineWriteLocks lineWriteLocks;
+
+    public LineWriteLockAspect(LineWriteLocks lineWriteLocks) {
+        this.lineWriteLocks = lineWriteLocks;
+    }
+
+    @Around("@annotation(subway.service.lock.LineWriteLock) && args(lineId, ..)")
+    public Object serialize(ProceedingJoinPoint joinPoint, Long lineId) throws Throwable {
+        Lock lock = lineWriteLocks.acquire(lineId);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
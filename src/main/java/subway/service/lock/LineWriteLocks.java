@@ -0,0 +1,61 @@
+package subway.service.lock;
+
+import com.google.common.util.concurrent.Striped;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+@Component
+public class LineWriteLocks {
+    private static final String WAIT_METRIC_NAME = "subway.line.lock.wait";
+    private static final String WAITING_METRIC_NAME = "subway.line.lock.waiting";
+
+    private final Striped<Lock> locks;
+    private final Duration timeout;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Timer acquired;
+    private final Timer timedOut;
+
+    public LineWriteLocks(MeterRegistry meterRegistry,
+                          @Value("${subway.line-lock.stripes:256}") int stripes,
+                          @Value("${subway.line-lock.timeout:5s}") Duration timeout) {
+        this.locks = Striped.lock(stripes);
+        this.timeout = timeout;
+        this.acquired = Timer.builder(WAIT_METRIC_NAME)
+                .tag("result", "acquired")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.timedOut = Timer.builder(WAIT_METRIC_NAME)
+                .tag("result", "timeout")
+                .register(meterRegistry);
+        Gauge.builder(WAITING_METRIC_NAME, waiting, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    public Lock acquire(Long lineId) {
+        Lock lock = locks.get(lineId);
+        long started = System.nanoTime();
+        waiting.incrementAndGet();
+        try {
+            if (!lock.tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                timedOut.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                throw new CannotAcquireLockException("노선 변경 대기 시간이 초과되었습니다. lineId=" + lineId);
+            }
+            acquired.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return lock;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotAcquireLockException("노선 변경 대기 중 중단되었습니다. lineId=" + lineId, e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+}
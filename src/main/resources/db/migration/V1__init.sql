@@ -0,0 +1,44 @@
+create table station
+(
+    id   bigint generated by default as identity primary key,
+    name varchar(20) not null
+);
+
+create table line
+(
+    id      bigint generated by default as identity primary key,
+    name    varchar(20) not null,
+    color   varchar(20) not null,
+    version bigint
+);
+
+create table section
+(
+    id              bigint generated by default as identity primary key,
+    line_id         bigint not null,
+    up_station_id   bigint not null,
+    down_station_id bigint not null,
+    distance        bigint not null,
+    constraint fk_section_line foreign key (line_id) references line (id),
+    constraint fk_section_up_station foreign key (up_station_id) references station (id),
+    constraint fk_section_down_station foreign key (down_station_id) references station (id),
+    constraint uk_section_line_up_station unique (line_id, up_station_id),
+    constraint uk_section_line_down_station unique (line_id, down_station_id)
+);
+
+create index idx_section_up_station on section (up_station_id);
+create index idx_section_down_station on section (down_station_id);
+
+create table line_station
+(
+    id                  bigint generated by default as identity primary key,
+    line_id             bigint  not null,
+    position            integer not null,
+    station_id          bigint  not null,
+    cumulative_distance bigint  not null,
+    constraint fk_line_station_line foreign key (line_id) references line (id),
+    constraint fk_line_station_station foreign key (station_id) references station (id),
+    constraint uk_line_station_position unique (line_id, position)
+);
+
+create index idx_line_station_station on line_station (station_id);
@@ -1,9 +1,13 @@
 package subway;
 
 import com.google.common.base.CaseFormat;
+import org.hibernate.SessionFactory;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import subway.service.PathService;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
@@ -17,6 +21,12 @@ public class DatabaseCleaner implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private PathService pathService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     private List<String> tableNames;
 
     @Override
@@ -41,6 +51,9 @@ public class DatabaseCleaner implements InitializingBean {
         }
 
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache().evictAllRegions();
+        pathService.reload();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
     }
 
 }
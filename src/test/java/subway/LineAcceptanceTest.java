@@ -1,26 +1,42 @@
 package subway;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import io.restassured.RestAssured;
 import io.restassured.common.mapper.TypeRef;
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import subway.controller.dto.LineCreateRequest;
+import subway.controller.dto.LineImportRequest;
 import subway.controller.dto.LineResponse;
 import subway.controller.dto.LineUpdateRequest;
+import subway.controller.dto.SectionCreateRequest;
 import subway.controller.dto.StationResponse;
+import subway.exception.ExceptionResponse;
+import subway.service.NetworkVersion;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.springframework.http.HttpStatus.*;
+import static subway.config.CacheConfig.LINE;
+import static subway.config.CacheConfig.LINES;
 import static subway.fixture.LineFixture.분당선;
 import static subway.fixture.LineFixture.신분당선;
 import static subway.fixture.StationFixture.*;
+import static subway.monitoring.QueryCountFilter.QUERY_COUNT_HEADER;
 
 @DisplayName("지하철 노선 관련 기능")
 public class LineAcceptanceTest extends AcceptanceTest {
@@ -28,6 +44,12 @@ public class LineAcceptanceTest extends AcceptanceTest {
     private static Long 선릉역_ID;
     private static Long 양재역_ID;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private NetworkVersion networkVersion;
+
     @BeforeEach
     void setFixture() {
         강남역_ID = 지하철역_생성_요청(GANGNAM_STATION.toCreateRequest(), CREATED.value())
@@ -169,6 +191,277 @@ public class LineAcceptanceTest extends AcceptanceTest {
         assertThat(findAllResponse).isEmpty();
     }
 
+    /**
+     * When 역 목록과 구간 거리로 노선을 한 번에 생성하면
+     * Then 노선 조회 시 상행 종점부터 하행 종점까지 순서대로 역을 찾을 수 있다
+     */
+    @DisplayName("구간을 포함한 지하철 노선을 한 번에 생성한다.")
+    @Test
+    void importLine() {
+        // given
+        LineImportRequest request = new LineImportRequest("신분당선", "bg-red-600",
+                List.of(강남역_ID, 선릉역_ID, 양재역_ID), List.of(10L, 13L));
+
+        // when
+        LineResponse createLineResponse = post("/lines/bulk", request, CREATED.value()).as(LineResponse.class);
+
+        // then
+        LineResponse findLineResponse = 노선_조회_요청(createLineResponse.getId(), OK.value()).as(LineResponse.class);
+        assertThat(findLineResponse.getStations())
+                .extracting("id", "name")
+                .containsExactly(
+                        tuple(1L, "강남역"),
+                        tuple(2L, "선릉역"),
+                        tuple(3L, "양재역")
+                );
+    }
+
+    /**
+     * When 같은 역이 두 번 포함된 역 목록으로 노선을 한 번에 생성하면
+     * Then 노선이 생성되지 않는다
+     */
+    @DisplayName("같은 역을 두 번 지나는 노선은 한 번에 생성할 수 없다.")
+    @Test
+    void importLineWithDuplicatedStation() {
+        // given
+        LineImportRequest request = new LineImportRequest("신분당선", "bg-red-600",
+                List.of(강남역_ID, 선릉역_ID, 강남역_ID), List.of(10L, 13L));
+
+        // when
+        String message = post("/lines/bulk", request, OK.value()).as(ExceptionResponse.class).getMessage();
+
+        // then
+        List<LineResponse> findAllResponse = 노선_조회_요청(OK.value()).as(new TypeRef<>() {
+        });
+        assertAll(
+                () -> assertThat(message).isEqualTo("새로운 구간의 하행역은 노선에 존재하는 역에 생성할 수 없습니다."),
+                () -> assertThat(findAllResponse).isEmpty()
+        );
+    }
+
+    /**
+     * Given 2개의 지하철 노선을 생성하고
+     * When NDJSON 으로 지하철 노선 목록을 조회하면
+     * Then 노선이 한 줄에 하나씩 스트리밍된다
+     */
+    @DisplayName("지하철 노선 목록을 NDJSON 스트림으로 조회한다.")
+    @Test
+    void streamLines() {
+        // given
+        노선_생성_요청(신분당선.toCreateRequest(강남역_ID, 선릉역_ID), CREATED.value());
+        노선_생성_요청(분당선.toCreateRequest(강남역_ID, 양재역_ID), CREATED.value());
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .when().get("/lines")
+                .then().log().all()
+                .statusCode(OK.value())
+                .extract();
+
+        // then
+        List<String> lineNames = response.asString().lines()
+                .filter(line -> !line.isBlank())
+                .map(line -> JsonPath.from(line).getString("name"))
+                .collect(Collectors.toList());
+        assertAll(
+                () -> assertThat(response.contentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE),
+                () -> assertThat(lineNames).containsExactly("신분당선", "분당선")
+        );
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고 NDJSON 으로 노선 목록을 조회해 ETag 를 받고
+     * When 같은 ETag 로 다시 NDJSON 스트림을 요청하면
+     * Then 본문 없이 304 Not Modified 를 응답받는다
+     */
+    @DisplayName("노선 목록이 바뀌지 않았으면 NDJSON 스트림 요청에도 304 를 응답한다.")
+    @Test
+    void streamLinesWithETag() {
+        // given
+        노선_생성_요청(신분당선.toCreateRequest(강남역_ID, 선릉역_ID), CREATED.value());
+        String eTag = RestAssured.given().log().all()
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .when().get("/lines")
+                .then().log().all()
+                .statusCode(OK.value())
+                .extract().header(HttpHeaders.ETAG);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get("/lines")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(NOT_MODIFIED.value()),
+                () -> assertThat(response.header(HttpHeaders.ETAG)).isEqualTo(eTag),
+                () -> assertThat(response.asString()).isEmpty()
+        );
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고 노선 목록을 한 번 조회한 뒤
+     * When 노선을 수정하고 노선 목록을 다시 조회하면
+     * Then 수정된 노선 정보를 응답받고
+     * Then 변경 없이 한 번 더 조회하면 쿼리 없이 캐시에서 응답받는다
+     */
+    @DisplayName("노선을 수정하면 캐시된 노선 목록 대신 수정된 목록을 조회한다.")
+    @Test
+    void selectLinesAfterUpdate() {
+        // given
+        Long lineId = 노선_생성_요청(신분당선.toCreateRequest(강남역_ID, 선릉역_ID), CREATED.value())
+                .as(LineResponse.class).getId();
+        노선_조회_요청(OK.value());
+
+        // when
+        노선_수정_요청(lineId, new LineUpdateRequest("다른분당선", "bg-blue-600"), OK.value());
+        ExtractableResponse<Response> findResponse = 노선_조회_요청(OK.value());
+        ExtractableResponse<Response> cachedResponse = 노선_조회_요청(OK.value());
+
+        // then
+        assertAll(
+                () -> assertThat(findResponse.jsonPath().getList("name", String.class)).containsExactly("다른분당선"),
+                () -> assertThat(cachedResponse.jsonPath().getList("name", String.class)).containsExactly("다른분당선"),
+                () -> assertThat(cachedResponse.header(QUERY_COUNT_HEADER)).isEqualTo("0")
+        );
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고 노선을 한 번 조회한 뒤
+     * When 구간을 추가하고 노선을 다시 조회하면
+     * Then 추가한 구간의 역을 포함해 응답받고
+     * Then 변경 없이 한 번 더 조회하면 쿼리 없이 캐시에서 응답받는다
+     */
+    @DisplayName("구간을 추가하면 캐시된 노선 대신 변경된 노선을 조회한다.")
+    @Test
+    void selectLineAfterSectionCreated() {
+        // given
+        Long lineId = 노선_생성_요청(신분당선.toCreateRequest(강남역_ID, 선릉역_ID), CREATED.value())
+                .as(LineResponse.class).getId();
+        노선_조회_요청(lineId, OK.value());
+
+        // when
+        post("/lines/{lineId}/sections", new SectionCreateRequest(양재역_ID, 선릉역_ID, 13), CREATED.value(), lineId);
+        ExtractableResponse<Response> findResponse = 노선_조회_요청(lineId, OK.value());
+        ExtractableResponse<Response> cachedResponse = 노선_조회_요청(lineId, OK.value());
+
+        // then
+        assertAll(
+                () -> assertThat(findResponse.as(LineResponse.class).getStations())
+                        .extracting("id")
+                        .containsExactly(강남역_ID, 선릉역_ID, 양재역_ID),
+                () -> assertThat(cachedResponse.as(LineResponse.class).getStations())
+                        .extracting("id")
+                        .containsExactly(강남역_ID, 선릉역_ID, 양재역_ID),
+                () -> assertThat(cachedResponse.header(QUERY_COUNT_HEADER)).isEqualTo("0")
+        );
+    }
+
+    /**
+     * Given 지하철 노선 목록을 조회해 ETag 를 받고
+     * When 같은 ETag 로 다시 조회하면
+     * Then 304 Not Modified 를 응답받고
+     * When 노선을 생성한 뒤 같은 ETag 로 다시 조회하면
+     * Then 새 ETag 와 함께 생성한 노선이 포함된 목록을 응답받는다
+     */
+    @DisplayName("노선 목록이 바뀌지 않았으면 304 를, 바뀌었으면 새 목록을 응답한다.")
+    @Test
+    void selectLinesWithETag() {
+        // given
+        노선_생성_요청(신분당선.toCreateRequest(강남역_ID, 선릉역_ID), CREATED.value());
+        String eTag = 노선_조회_요청(OK.value()).header(HttpHeaders.ETAG);
+
+        // when
+        ExtractableResponse<Response> notModifiedResponse = 조건부_노선_조회_요청(eTag, NOT_MODIFIED.value());
+        노선_생성_요청(분당선.toCreateRequest(강남역_ID, 양재역_ID), CREATED.value());
+        ExtractableResponse<Response> modifiedResponse = 조건부_노선_조회_요청(eTag, OK.value());
+
+        // then
+        assertAll(
+                () -> assertThat(notModifiedResponse.header(HttpHeaders.ETAG)).isEqualTo(eTag),
+                () -> assertThat(notModifiedResponse.asString()).isEmpty(),
+                () -> assertThat(modifiedResponse.header(HttpHeaders.ETAG)).isNotEqualTo(eTag),
+                () -> assertThat(modifiedResponse.jsonPath().getList("name", String.class))
+                        .containsExactly("신분당선", "분당선")
+        );
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고 JSON 으로 노선 목록을 조회해 ETag 를 받고
+     * When 같은 ETag 로 NDJSON 스트림을 요청하면
+     * Then JSON 표현의 ETag 와 일치하지 않아 NDJSON 본문과 다른 ETag 를 응답받고
+     * Then 두 응답 모두 Accept 에 따라 달라진다고 알린다
+     */
+    @DisplayName("JSON 목록의 ETag 로 NDJSON 스트림을 요청하면 304 가 아닌 스트림을 응답한다.")
+    @Test
+    void streamLinesWithJsonETag() {
+        // given
+        노선_생성_요청(신분당선.toCreateRequest(강남역_ID, 선릉역_ID), CREATED.value());
+        ExtractableResponse<Response> jsonResponse = 노선_조회_요청(OK.value());
+        String jsonETag = jsonResponse.header(HttpHeaders.ETAG);
+
+        // when
+        ExtractableResponse<Response> streamResponse = RestAssured.given().log().all()
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, jsonETag)
+                .when().get("/lines")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertAll(
+                () -> assertThat(streamResponse.statusCode()).isEqualTo(OK.value()),
+                () -> assertThat(streamResponse.contentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE),
+                () -> assertThat(streamResponse.header(HttpHeaders.ETAG)).isNotEqualTo(jsonETag),
+                () -> assertThat(jsonResponse.header(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT),
+                () -> assertThat(streamResponse.header(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT)
+        );
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고 노선 목록과 노선을 조회해 캐시에 담은 뒤
+     * When 노선을 수정하고 노선 목록과 노선을 다시 조회하면
+     * Then 캐시에는 현재 버전의 항목만 남고 이전 버전의 항목은 비워진다
+     */
+    @DisplayName("노선이 바뀌면 이전 버전의 노선 캐시 항목을 비운다.")
+    @Test
+    void evictStaleLineCaches() {
+        // given
+        Long lineId = 노선_생성_요청(신분당선.toCreateRequest(강남역_ID, 선릉역_ID), CREATED.value())
+                .as(LineResponse.class).getId();
+        노선_조회_요청(OK.value());
+        노선_조회_요청(lineId, OK.value());
+
+        // when
+        노선_수정_요청(lineId, new LineUpdateRequest("다른분당선", "bg-blue-600"), OK.value());
+        노선_조회_요청(OK.value());
+        노선_조회_요청(lineId, OK.value());
+
+        // then
+        long version = networkVersion.current();
+        assertAll(
+                () -> assertThat(캐시_키(LINES)).containsExactly(version),
+                () -> assertThat(캐시_키(LINE)).containsExactly(lineId + ":" + version)
+        );
+    }
+
+    private List<Object> 캐시_키(String cacheName) {
+        return new ArrayList<>(((Cache<?, ?>) cacheManager.getCache(cacheName).getNativeCache()).asMap().keySet());
+    }
+
+    private ExtractableResponse<Response> 조건부_노선_조회_요청(String eTag, int statusCode) {
+        return RestAssured.given().log().all()
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get("/lines")
+                .then().log().all()
+                .statusCode(statusCode)
+                .extract();
+    }
+
     private ExtractableResponse<Response> 노선_조회_요청(int statusCode) {
         return get("/lines", statusCode);
     }
@@ -0,0 +1,272 @@
+package subway;
+
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import subway.controller.dto.LineImportRequest;
+import subway.controller.dto.LineResponse;
+import subway.controller.dto.SectionCreateRequest;
+import subway.controller.dto.StationResponse;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.http.HttpStatus.*;
+import static subway.fixture.LineFixture.신분당선;
+import static subway.fixture.StationFixture.*;
+
+@DisplayName("노선역 정보 관련 기능")
+public class LineStationAcceptanceTest extends AcceptanceTest {
+
+    private Long 강남역_ID;
+    private Long 선릉역_ID;
+    private Long 양재역_ID;
+
+    private Long 신분당선_ID;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * GIVEN 지하철 역을 생성하고
+     * GIVEN 강남역 - 선릉역 노선을 생성한다
+     */
+    @BeforeEach
+    void setFixture() {
+        강남역_ID = 지하철역_생성_요청(GANGNAM_STATION.toCreateRequest(), CREATED.value())
+                .as(StationResponse.class).getId();
+        선릉역_ID = 지하철역_생성_요청(SEOLLEUNG_STATION.toCreateRequest(), CREATED.value())
+                .as(StationResponse.class).getId();
+        양재역_ID = 지하철역_생성_요청(YANGJAE_STATION.toCreateRequest(), CREATED.value())
+                .as(StationResponse.class).getId();
+
+        신분당선_ID = 노선_생성_요청(신분당선.toCreateRequest(강남역_ID, 선릉역_ID), CREATED.value())
+                .as(LineResponse.class).getId();
+    }
+
+    /**
+     * WHEN 하행 종점역에 구간을 추가하면
+     * THEN 노선역 정보에 추가한 역이 누적 거리와 함께 마지막 순서로 추가되고
+     * THEN 노선 목록과 노선 조회 모두 추가한 역까지 응답받는다
+     */
+    @Test
+    void 성공_구간을_추가하면_노선역_정보에_하행_종점역이_추가된다() {
+        // when
+        구간_생성_요청(선릉역_ID, 양재역_ID, 13);
+
+        // then
+        assertAll(
+                () -> assertThat(노선역_정보(신분당선_ID)).containsExactly(
+                        tuple(강남역_ID, 0, 0L),
+                        tuple(선릉역_ID, 1, 10L),
+                        tuple(양재역_ID, 2, 23L)
+                ),
+                () -> assertThat(노선_조회_요청(신분당선_ID, OK.value()).as(LineResponse.class).getStations())
+                        .extracting("id")
+                        .containsExactly(강남역_ID, 선릉역_ID, 양재역_ID),
+                () -> assertThat(노선_목록_조회_요청())
+                        .flatExtracting(LineResponse::getStations)
+                        .extracting("id")
+                        .containsExactly(강남역_ID, 선릉역_ID, 양재역_ID)
+        );
+    }
+
+    /**
+     * GIVEN 하행 종점역에 구간을 추가하고
+     * WHEN 마지막 구간을 제거하면
+     * THEN 노선역 정보에서 제거한 하행 종점역만 빠지고
+     * THEN 노선 목록과 노선 조회 모두 남은 역만 응답받는다
+     */
+    @Test
+    void 성공_구간을_제거하면_노선역_정보에서_하행_종점역이_제거된다() {
+        // given
+        구간_생성_요청(선릉역_ID, 양재역_ID, 13);
+
+        // when
+        delete("/lines/{lineId}/sections", NO_CONTENT.value(), Map.of("stationId", 양재역_ID), 신분당선_ID);
+
+        // then
+        assertAll(
+                () -> assertThat(노선역_정보(신분당선_ID)).containsExactly(
+                        tuple(강남역_ID, 0, 0L),
+                        tuple(선릉역_ID, 1, 10L)
+                ),
+                () -> assertThat(노선_조회_요청(신분당선_ID, OK.value()).as(LineResponse.class).getStations())
+                        .extracting("id")
+                        .containsExactly(강남역_ID, 선릉역_ID),
+                () -> assertThat(노선_목록_조회_요청())
+                        .flatExtracting(LineResponse::getStations)
+                        .extracting("id")
+                        .containsExactly(강남역_ID, 선릉역_ID)
+        );
+    }
+
+    /**
+     * GIVEN 노선을 하나 더 한 번에 등록하고
+     * WHEN 신분당선을 삭제하면
+     * THEN 신분당선의 노선역 정보만 모두 제거되고
+     * THEN 노선 목록에는 남은 노선만 응답받는다
+     */
+    @Test
+    void 성공_노선을_삭제하면_노선의_노선역_정보가_모두_제거된다() {
+        // given
+        Long 경강선_ID = 노선_가져오기_요청(List.of(선릉역_ID, 양재역_ID), List.of(5L));
+
+        // when
+        delete("/lines/{id}", NO_CONTENT.value(), null, 신분당선_ID);
+
+        // then
+        assertAll(
+                () -> assertThat(노선역_정보(신분당선_ID)).isEmpty(),
+                () -> assertThat(노선역_정보(경강선_ID)).containsExactly(
+                        tuple(선릉역_ID, 0, 0L),
+                        tuple(양재역_ID, 1, 5L)
+                ),
+                () -> assertThat(노선_목록_조회_요청())
+                        .extracting("id")
+                        .containsExactly(경강선_ID)
+        );
+    }
+
+    /**
+     * WHEN 여러 역을 지나는 노선을 한 번에 등록하면
+     * THEN 등록한 역 순서대로 누적 거리와 함께 노선역 정보가 만들어지고
+     * THEN 노선 목록과 노선 조회 모두 등록한 역 순서대로 응답받는다
+     */
+    @Test
+    void 성공_노선을_한_번에_등록하면_역_순서대로_노선역_정보가_만들어진다() {
+        // when
+        Long 경강선_ID = 노선_가져오기_요청(List.of(양재역_ID, 강남역_ID, 선릉역_ID), List.of(4L, 6L));
+
+        // then
+        assertAll(
+                () -> assertThat(노선역_정보(경강선_ID)).containsExactly(
+                        tuple(양재역_ID, 0, 0L),
+                        tuple(강남역_ID, 1, 4L),
+                        tuple(선릉역_ID, 2, 10L)
+                ),
+                () -> assertThat(노선_조회_요청(경강선_ID, OK.value()).as(LineResponse.class).getStations())
+                        .extracting("id")
+                        .containsExactly(양재역_ID, 강남역_ID, 선릉역_ID),
+                () -> assertThat(노선_목록_조회_요청())
+                        .extracting("id")
+                        .containsExactly(신분당선_ID, 경강선_ID)
+        );
+    }
+
+    /**
+     * GIVEN 구간을 추가한 뒤 노선역 정보의 일부가 빠져 있을 때
+     * WHEN 노선역 정보 보정을 요청하면
+     * THEN 구간으로 노선역 정보를 다시 만들고
+     * THEN 다시 요청하면 보정할 노선이 없다
+     */
+    @Test
+    void 성공_구간과_개수가_다른_노선역_정보를_다시_만든다() {
+        // given
+        구간_생성_요청(선릉역_ID, 양재역_ID, 13);
+        jdbcTemplate.update("delete from line_station where line_id = ? and position > 0", 신분당선_ID);
+
+        // when
+        List<Long> rebuiltLineIds = 노선역_정보_보정_요청();
+
+        // then
+        assertAll(
+                () -> assertThat(rebuiltLineIds).containsExactly(신분당선_ID),
+                () -> assertThat(노선역_정보(신분당선_ID)).containsExactly(
+                        tuple(강남역_ID, 0, 0L),
+                        tuple(선릉역_ID, 1, 10L),
+                        tuple(양재역_ID, 2, 23L)
+                ),
+                () -> assertThat(노선_조회_요청(신분당선_ID, OK.value()).as(LineResponse.class).getStations())
+                        .extracting("id")
+                        .containsExactly(강남역_ID, 선릉역_ID, 양재역_ID),
+                () -> assertThat(노선역_정보_보정_요청()).isEmpty()
+        );
+    }
+
+    /**
+     * GIVEN 노선역 정보의 개수는 같지만 다른 역이 들어 있을 때
+     * WHEN 노선역 정보 보정을 요청하면
+     * THEN 구간과 같은 역으로 노선역 정보를 다시 만든다
+     */
+    @Test
+    void 성공_구간과_역이_다른_노선역_정보를_다시_만든다() {
+        // given
+        jdbcTemplate.update("update line_station set station_id = ? where line_id = ? and position = 1", 양재역_ID, 신분당선_ID);
+
+        // when
+        List<Long> rebuiltLineIds = 노선역_정보_보정_요청();
+
+        // then
+        assertAll(
+                () -> assertThat(rebuiltLineIds).containsExactly(신분당선_ID),
+                () -> assertThat(노선역_정보(신분당선_ID)).containsExactly(
+                        tuple(강남역_ID, 0, 0L),
+                        tuple(선릉역_ID, 1, 10L)
+                )
+        );
+    }
+
+    /**
+     * GIVEN 구간이 없는 노선에 노선역 정보가 남아 있을 때
+     * WHEN 노선역 정보 보정을 요청하면
+     * THEN 남아 있는 노선역 정보를 모두 제거하고 다른 노선은 그대로 둔다
+     */
+    @Test
+    void 성공_구간이_없는_노선의_노선역_정보를_제거한다() {
+        // given
+        jdbcTemplate.update("insert into line (name, color, version) values ('경강선', 'bg-blue-600', 0)");
+        Long 경강선_ID = jdbcTemplate.queryForObject("select id from line where name = '경강선'", Long.class);
+        jdbcTemplate.update("insert into line_station (line_id, position, station_id, cumulative_distance) values (?, 0, ?, 0)",
+                경강선_ID, 양재역_ID);
+
+        // when
+        List<Long> rebuiltLineIds = 노선역_정보_보정_요청();
+
+        // then
+        assertAll(
+                () -> assertThat(rebuiltLineIds).containsExactly(경강선_ID),
+                () -> assertThat(노선역_정보(경강선_ID)).isEmpty(),
+                () -> assertThat(노선역_정보(신분당선_ID)).containsExactly(
+                        tuple(강남역_ID, 0, 0L),
+                        tuple(선릉역_ID, 1, 10L)
+                )
+        );
+    }
+
+    private void 구간_생성_요청(Long upStationId, Long downStationId, int distance) {
+        SectionCreateRequest request = SectionCreateRequest.builder()
+                .upStationId(upStationId)
+                .downStationId(downStationId)
+                .distance(distance)
+                .build();
+        post("/lines/{lineId}/sections", request, CREATED.value(), 신분당선_ID);
+    }
+
+    private Long 노선_가져오기_요청(List<Long> stationIds, List<Long> distances) {
+        return post("/lines/bulk", new LineImportRequest("경강선", "bg-blue-600", stationIds, distances), CREATED.value())
+                .as(LineResponse.class).getId();
+    }
+
+    private List<Long> 노선역_정보_보정_요청() {
+        return post("/actuator/linestations", Map.of(), OK.value()).jsonPath().getList(".", Long.class);
+    }
+
+    private List<LineResponse> 노선_목록_조회_요청() {
+        return get("/lines", OK.value()).jsonPath().getList(".", LineResponse.class);
+    }
+
+    private List<Tuple> 노선역_정보(Long lineId) {
+        return jdbcTemplate.query(
+                "select station_id, position, cumulative_distance from line_station where line_id = ? order by position",
+                (rs, rowNum) -> tuple(rs.getLong("station_id"), rs.getInt("position"), rs.getLong("cumulative_distance")),
+                lineId
+        );
+    }
+}
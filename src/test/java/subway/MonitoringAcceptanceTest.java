@@ -0,0 +1,61 @@
+package subway;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import subway.controller.dto.LineCreateRequest;
+import subway.controller.dto.StationCreateRequest;
+import subway.controller.dto.StationResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.OK;
+import static subway.fixture.StationFixture.GANGNAM_STATION;
+import static subway.monitoring.QueryCountFilter.QUERY_COUNT_HEADER;
+
+@DisplayName("모니터링 지표 관련 기능")
+public class MonitoringAcceptanceTest extends AcceptanceTest {
+
+    /**
+     * GIVEN 지하철역을 생성하고 노선 목록을 조회한 뒤
+     * WHEN 프로메테우스 지표를 조회하면
+     * THEN 서비스, 레포지토리, 요청당 쿼리 수 지표를 응답받는다
+     */
+    @Test
+    void 성공_프로메테우스_지표를_조회한다() {
+        // given
+        지하철역_생성_요청(GANGNAM_STATION.toCreateRequest(), CREATED.value());
+        get("/lines", OK.value());
+
+        // when
+        String metrics = get("/actuator/prometheus", OK.value()).asString();
+
+        // then
+        assertThat(metrics)
+                .contains("subway_service_seconds_count{class=\"StationService\"")
+                .contains("spring_data_repository_invocations_seconds_count")
+                .contains("hibernate_statements_per_request_statements_count");
+    }
+
+    /**
+     * GIVEN 서로 다른 역으로 이루어진 노선 30개를 생성하고
+     * WHEN 노선 목록을 조회하면
+     * THEN 노선 수와 무관하게 한 번의 쿼리로 응답받는다
+     */
+    @Test
+    void 성공_노선_목록_조회는_노선_수만큼_쿼리를_실행하지_않는다() {
+        // given
+        for (int i = 0; i < 30; i++) {
+            Long upStationId = 지하철역_생성_요청(new StationCreateRequest("상행역" + i), CREATED.value())
+                    .as(StationResponse.class).getId();
+            Long downStationId = 지하철역_생성_요청(new StationCreateRequest("하행역" + i), CREATED.value())
+                    .as(StationResponse.class).getId();
+            노선_생성_요청(new LineCreateRequest("노선" + i, "bg-red-600", upStationId, downStationId, 10), CREATED.value());
+        }
+
+        // when
+        String queryCount = get("/lines", OK.value()).header(QUERY_COUNT_HEADER);
+
+        // then
+        assertThat(Long.parseLong(queryCount)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,93 @@
+package subway;
+
+import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import subway.controller.dto.LineResponse;
+import subway.controller.dto.StationResponse;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.OK;
+import static subway.fixture.LineFixture.신분당선;
+import static subway.fixture.StationFixture.GANGNAM_STATION;
+import static subway.fixture.StationFixture.SEOLLEUNG_STATION;
+import static subway.monitoring.QueryCountFilter.QUERY_COUNT_HEADER;
+
+@DisplayName("지하철 노선망 내보내기 관련 기능")
+public class NetworkAcceptanceTest extends AcceptanceTest {
+
+    /**
+     * GIVEN 지하철역 2개와 노선을 생성하고
+     * WHEN 노선망을 내보내면
+     * THEN 노선, 지하철역, 구간이 한 줄에 하나씩 스트리밍된다
+     */
+    @Test
+    void 성공_노선망을_NDJSON_으로_내보낸다() {
+        // given
+        Long 강남역_ID = 지하철역_생성_요청(GANGNAM_STATION.toCreateRequest(), CREATED.value())
+                .as(StationResponse.class).getId();
+        Long 선릉역_ID = 지하철역_생성_요청(SEOLLEUNG_STATION.toCreateRequest(), CREATED.value())
+                .as(StationResponse.class).getId();
+        Long 신분당선_ID = 노선_생성_요청(신분당선.toCreateRequest(강남역_ID, 선릉역_ID), CREATED.value())
+                .as(LineResponse.class).getId();
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .when().get("/network/export")
+                .then().log().all()
+                .statusCode(OK.value())
+                .extract();
+
+        // then
+        List<JsonPath> records = response.asString().lines()
+                .filter(line -> !line.isBlank())
+                .map(JsonPath::from)
+                .collect(Collectors.toList());
+        JsonPath section = records.get(3);
+        assertAll(
+                () -> assertThat(records).extracting(record -> record.getString("type"))
+                        .containsExactly("line", "station", "station", "section"),
+                () -> assertThat(section.getLong("lineId")).isEqualTo(신분당선_ID),
+                () -> assertThat(section.getLong("upStationId")).isEqualTo(강남역_ID),
+                () -> assertThat(section.getLong("downStationId")).isEqualTo(선릉역_ID)
+        );
+    }
+
+    /**
+     * GIVEN 지하철역과 노선을 생성하고
+     * WHEN Accept 헤더 없이 노선망을 내보내면
+     * THEN 응답을 버퍼링하지 않고 그대로 스트리밍한다
+     */
+    @Test
+    void 성공_Accept_헤더와_관계없이_노선망_내보내기는_버퍼링하지_않는다() {
+        // given
+        Long 강남역_ID = 지하철역_생성_요청(GANGNAM_STATION.toCreateRequest(), CREATED.value())
+                .as(StationResponse.class).getId();
+        Long 선릉역_ID = 지하철역_생성_요청(SEOLLEUNG_STATION.toCreateRequest(), CREATED.value())
+                .as(StationResponse.class).getId();
+        노선_생성_요청(신분당선.toCreateRequest(강남역_ID, 선릉역_ID), CREATED.value());
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when().get("/network/export")
+                .then().log().all()
+                .statusCode(OK.value())
+                .extract();
+
+        // then
+        assertAll(
+                () -> assertThat(response.header(QUERY_COUNT_HEADER)).isNull(),
+                () -> assertThat(response.asString().lines().filter(line -> !line.isBlank())).hasSize(4)
+        );
+    }
+}
@@ -0,0 +1,169 @@
+package subway;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import subway.controller.dto.LineImportRequest;
+import subway.controller.dto.LineResponse;
+import subway.controller.dto.PathResponse;
+import subway.controller.dto.SectionCreateRequest;
+import subway.controller.dto.StationCreateRequest;
+import subway.controller.dto.StationResponse;
+import subway.exception.ExceptionResponse;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.http.HttpStatus.*;
+import static subway.fixture.LineFixture.분당선;
+import static subway.fixture.LineFixture.신분당선;
+import static subway.fixture.StationFixture.*;
+
+@DisplayName("지하철 경로 조회 관련 기능")
+public class PathAcceptanceTest extends AcceptanceTest {
+
+    private Long 강남역_ID;
+    private Long 선릉역_ID;
+    private Long 양재역_ID;
+
+    private Long 신분당선_ID;
+
+    /**
+     * GIVEN 지하철 역을 생성하고
+     * GIVEN 강남역 - 선릉역 - 양재역 (신분당선), 강남역 - 양재역 (분당선) 노선을 생성한다
+     */
+    @BeforeEach
+    void setFixture() {
+        강남역_ID = 지하철역_생성_요청(GANGNAM_STATION.toCreateRequest(), CREATED.value())
+                .as(StationResponse.class).getId();
+
+        선릉역_ID = 지하철역_생성_요청(SEOLLEUNG_STATION.toCreateRequest(), CREATED.value())
+                .as(StationResponse.class).getId();
+
+        양재역_ID = 지하철역_생성_요청(YANGJAE_STATION.toCreateRequest(), CREATED.value())
+                .as(StationResponse.class).getId();
+
+        신분당선_ID = 노선_생성_요청(신분당선.toCreateRequest(강남역_ID, 선릉역_ID), CREATED.value())
+                .as(LineResponse.class).getId();
+        post("/lines/{lineId}/sections", new SectionCreateRequest(양재역_ID, 선릉역_ID, 13), CREATED.value(), 신분당선_ID);
+
+        노선_생성_요청(분당선.toCreateRequest(강남역_ID, 양재역_ID), CREATED.value());
+    }
+
+    /**
+     * WHEN 출발역과 도착역으로 경로를 조회하면
+     * THEN 최단 거리의 경로를 응답받는다
+     */
+    @Test
+    void 성공_출발역과_도착역의_최단_경로를_조회한다() {
+        // when
+        PathResponse response = 경로_조회_요청(선릉역_ID, 양재역_ID, OK.value()).as(PathResponse.class);
+
+        // then
+        assertAll(
+                () -> assertThat(response.getDistance()).isEqualTo(13L),
+                () -> assertThat(response.getStations())
+                        .extracting("id", "name")
+                        .containsExactly(
+                                tuple(2L, "선릉역"),
+                                tuple(3L, "양재역")
+                        )
+        );
+    }
+
+    /**
+     * GIVEN 경로를 한번 조회하고
+     * WHEN 구간을 제거한 뒤 다시 경로를 조회하면
+     * THEN 변경된 노선망 기준의 경로를 응답받는다
+     */
+    @Test
+    void 성공_구간이_변경되면_변경된_노선망으로_경로를_조회한다() {
+        // given
+        경로_조회_요청(선릉역_ID, 양재역_ID, OK.value());
+
+        // when
+        delete("/lines/{lineId}/sections", NO_CONTENT.value(), Map.of("stationId", "2"), 신분당선_ID);
+        PathResponse response = 경로_조회_요청(선릉역_ID, 양재역_ID, OK.value()).as(PathResponse.class);
+
+        // then
+        assertAll(
+                () -> assertThat(response.getDistance()).isEqualTo(20L),
+                () -> assertThat(response.getStations())
+                        .extracting("id")
+                        .containsExactly(선릉역_ID, 강남역_ID, 양재역_ID)
+        );
+    }
+
+    /**
+     * GIVEN 양재역 - 판교역 - 정자역 노선을 한 번에 등록하고
+     * WHEN 강남역에서 정자역까지 경로를 조회하면
+     * THEN 등록한 노선의 구간을 지나는 경로를 응답받는다
+     */
+    @Test
+    void 성공_노선을_한_번에_등록하면_등록한_구간으로_경로를_조회한다() {
+        // given
+        Long 판교역_ID = 지하철역_생성_요청(new StationCreateRequest("판교역"), CREATED.value())
+                .as(StationResponse.class).getId();
+        Long 정자역_ID = 지하철역_생성_요청(new StationCreateRequest("정자역"), CREATED.value())
+                .as(StationResponse.class).getId();
+        post("/lines/bulk", new LineImportRequest("경강선", "bg-blue-600",
+                List.of(양재역_ID, 판교역_ID, 정자역_ID), List.of(4L, 6L)), CREATED.value());
+
+        // when
+        PathResponse response = 경로_조회_요청(강남역_ID, 정자역_ID, OK.value()).as(PathResponse.class);
+
+        // then
+        assertAll(
+                () -> assertThat(response.getDistance()).isEqualTo(20L),
+                () -> assertThat(response.getStations())
+                        .extracting("id")
+                        .containsExactly(강남역_ID, 양재역_ID, 판교역_ID, 정자역_ID)
+        );
+    }
+
+    /**
+     * WHEN 신분당선을 삭제한 뒤 경로를 조회하면
+     * THEN 분당선만으로 경로를 응답받고
+     * THEN 더 이상 연결된 구간이 없는 선릉역은 등록되지 않은 역이 된다
+     */
+    @Test
+    void 성공_노선을_삭제하면_삭제한_노선의_구간을_제외하고_경로를_조회한다() {
+        // when
+        delete("/lines/{id}", NO_CONTENT.value(), null, 신분당선_ID);
+        PathResponse response = 경로_조회_요청(강남역_ID, 양재역_ID, OK.value()).as(PathResponse.class);
+        String message = 경로_조회_요청(선릉역_ID, 양재역_ID, OK.value())
+                .as(ExceptionResponse.class).getMessage();
+
+        // then
+        assertAll(
+                () -> assertThat(response.getDistance()).isEqualTo(10L),
+                () -> assertThat(response.getStations())
+                        .extracting("id")
+                        .containsExactly(강남역_ID, 양재역_ID),
+                () -> assertThat(message).isEqualTo("노선에 등록되지 않은 역입니다.")
+        );
+    }
+
+    /**
+     * WHEN 출발역과 도착역을 같게 조회하면
+     * THEN 경로를 조회할 수 없다
+     */
+    @Test
+    void 실패_출발역과_도착역이_같으면_예외가_발생한다() {
+        // when
+        String message = 경로_조회_요청(강남역_ID, 강남역_ID, OK.value())
+                .as(ExceptionResponse.class).getMessage();
+
+        // then
+        assertThat(message).isEqualTo("출발역과 도착역이 같습니다.");
+    }
+
+    private ExtractableResponse<Response> 경로_조회_요청(Long source, Long target, int statusCode) {
+        return get("/paths?source={source}&target={target}", statusCode, source, target);
+    }
+}
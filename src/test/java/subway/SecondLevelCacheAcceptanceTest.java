@@ -0,0 +1,155 @@
+package subway;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.controller.dto.LineImportRequest;
+import subway.controller.dto.LineResponse;
+import subway.controller.dto.StationImportResponse;
+import subway.controller.dto.StationResponse;
+import subway.domain.Station;
+import subway.repository.StationRepository;
+import subway.service.StationService;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.http.HttpStatus.*;
+import static subway.fixture.StationFixture.*;
+
+@DisplayName("2차 캐시 관련 기능")
+public class SecondLevelCacheAcceptanceTest extends AcceptanceTest {
+    private static final String STATION_REGION = "subway.domain.Station";
+
+    private Long 강남역_ID;
+    private Long 선릉역_ID;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private StationService stationService;
+
+    @Autowired
+    private StationRepository stationRepository;
+
+    private Statistics statistics;
+
+    /**
+     * GIVEN 지하철 역을 생성한다
+     */
+    @BeforeEach
+    void setFixture() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        강남역_ID = 지하철역_생성_요청(GANGNAM_STATION.toCreateRequest(), CREATED.value())
+                .as(StationResponse.class).getId();
+        선릉역_ID = 지하철역_생성_요청(SEOLLEUNG_STATION.toCreateRequest(), CREATED.value())
+                .as(StationResponse.class).getId();
+    }
+
+    /**
+     * GIVEN 아직 없는 역을 포함한 역 목록 조회 결과가 쿼리 캐시에 저장되어 있을 때
+     * WHEN 지하철역을 한 번에 등록한 뒤 같은 역 목록으로 노선을 등록하면
+     * THEN 쿼리 캐시에 남은 이전 결과가 아니라 새로 등록한 역까지 조회해 노선을 등록한다
+     */
+    @Test
+    void 성공_지하철역을_한_번에_등록하면_같은_역_목록_조회에서_등록한_역이_보인다() {
+        // given
+        Long 양재역_ID = 3L;
+        List<Long> stationIds = List.of(강남역_ID, 선릉역_ID, 양재역_ID);
+        post("/lines/bulk", 노선_가져오기_요청("신분당선", stationIds), INTERNAL_SERVER_ERROR.value());
+
+        // when
+        StationImportResponse importResponse = post("/stations/bulk", List.of(YANGJAE_STATION.toCreateRequest()), OK.value())
+                .as(StationImportResponse.class);
+        LineResponse lineResponse = post("/lines/bulk", 노선_가져오기_요청("신분당선", stationIds), CREATED.value())
+                .as(LineResponse.class);
+
+        // then
+        assertAll(
+                () -> assertThat(importResponse.getCreatedCount()).isEqualTo(1),
+                () -> assertThat(lineResponse.getStations())
+                        .extracting("id", "name")
+                        .containsExactly(
+                                tuple(강남역_ID, "강남역"),
+                                tuple(선릉역_ID, "선릉역"),
+                                tuple(양재역_ID, "양재역")
+                        )
+        );
+    }
+
+    /**
+     * GIVEN 아직 없는 역을 포함한 역 목록 조회 결과가 쿼리 캐시에 저장되어 있을 때
+     * WHEN 지하철역을 한 번에 등록하는 트랜잭션이 커밋되기 전에 다른 스레드가 같은 역 목록을 조회하면
+     * THEN 커밋 전 조회는 쿼리 캐시에 남은 이전 결과를 읽지 않고
+     * THEN 커밋 후 조회는 커밋 전에 조회한 결과가 아니라 새로 등록한 역까지 조회한다
+     */
+    @Test
+    void 성공_지하철역을_한_번에_등록하는_도중에_조회한_결과는_커밋_후_조회에_쓰이지_않는다() {
+        // given
+        List<Long> stationIds = List.of(강남역_ID, 선릉역_ID, 3L);
+        stationRepository.findByIdIn(stationIds);
+        long queryCacheHits = statistics.getQueryCacheHitCount();
+
+        // when
+        List<List<Station>> uncommittedLookups = new TransactionTemplate(transactionManager).execute(status -> {
+            stationService.saveStations(List.of(YANGJAE_STATION.toCreateRequest()));
+            return List.of(다른_스레드에서_역_목록_조회(stationIds), 다른_스레드에서_역_목록_조회(stationIds));
+        });
+        List<Station> committedLookup = stationRepository.findByIdIn(stationIds);
+
+        // then
+        assertAll(
+                () -> assertThat(uncommittedLookups).allSatisfy(stations -> assertThat(stations).hasSize(2)),
+                () -> assertThat(statistics.getQueryCacheHitCount()).isEqualTo(queryCacheHits),
+                () -> assertThat(committedLookup)
+                        .extracting("id")
+                        .containsExactlyInAnyOrder(강남역_ID, 선릉역_ID, 3L)
+        );
+    }
+
+    /**
+     * GIVEN 한 번에 등록한 역을 포함한 역 목록으로 노선을 등록하고
+     * WHEN 같은 역 목록으로 노선을 다시 등록하면
+     * THEN 역 목록 조회는 쿼리 캐시에서, 각 역은 2차 캐시에서 읽는다
+     */
+    @Test
+    void 성공_같은_역_목록을_다시_조회하면_쿼리_캐시와_2차_캐시를_사용한다() {
+        // given
+        post("/stations/bulk", List.of(YANGJAE_STATION.toCreateRequest()), OK.value());
+        List<Long> stationIds = List.of(강남역_ID, 선릉역_ID, 3L);
+        post("/lines/bulk", 노선_가져오기_요청("신분당선", stationIds), CREATED.value());
+        long queryCacheHits = statistics.getQueryCacheHitCount();
+        long stationCacheHits = statistics.getDomainDataRegionStatistics(STATION_REGION).getHitCount();
+
+        // when
+        post("/lines/bulk", 노선_가져오기_요청("분당선", stationIds), CREATED.value());
+
+        // then
+        assertAll(
+                () -> assertThat(statistics.getQueryCacheHitCount() - queryCacheHits).isEqualTo(1),
+                () -> assertThat(statistics.getDomainDataRegionStatistics(STATION_REGION).getHitCount() - stationCacheHits)
+                        .isGreaterThanOrEqualTo(stationIds.size())
+        );
+    }
+
+    private List<Station> 다른_스레드에서_역_목록_조회(List<Long> stationIds) {
+        return CompletableFuture.supplyAsync(() -> stationRepository.findByIdIn(stationIds)).join();
+    }
+
+    private LineImportRequest 노선_가져오기_요청(String name, List<Long> stationIds) {
+        return new LineImportRequest(name, "bg-red-600", stationIds, List.of(10L, 10L));
+    }
+}
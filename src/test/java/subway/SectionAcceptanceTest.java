@@ -1,5 +1,7 @@
 package subway;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,17 +11,31 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import subway.controller.dto.LineCreateRequest;
 import subway.controller.dto.LineResponse;
 import subway.controller.dto.SectionCreateRequest;
+import subway.controller.dto.StationCreateRequest;
 import subway.controller.dto.StationResponse;
 import subway.exception.ExceptionResponse;
+import subway.service.lock.LineWriteLocks;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.springframework.http.HttpStatus.*;
 import static subway.fixture.LineFixture.신분당선;
 import static subway.fixture.StationFixture.*;
@@ -33,6 +49,15 @@ public class SectionAcceptanceTest extends AcceptanceTest {
 
     private Long 이호선;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LineWriteLocks lineWriteLocks;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     /**
      * GIVEN 지하철 역을 생성하고
      * GIVEN 노선을 생성한다
@@ -157,6 +182,36 @@ public class SectionAcceptanceTest extends AcceptanceTest {
                 );
     }
 
+    /**
+     * GIVEN 노선의 구간이 상행에서 하행 순서와 다르게 저장되어 있을 때
+     * WHEN 하행 종점역에 구간을 추가하면
+     * THEN 노선 조회 시 상행 종점역부터 하행 종점역까지 순서대로 응답받는다
+     */
+    @Test
+    void 성공_구간이_순서와_다르게_저장되어_있어도_상행역부터_하행역_순서로_조회한다() {
+        // given
+        Long 판교역_ID = 지하철역_생성_요청(new StationCreateRequest("판교역"), CREATED.value())
+                .as(StationResponse.class).getId();
+        Long 정자역_ID = 지하철역_생성_요청(new StationCreateRequest("정자역"), CREATED.value())
+                .as(StationResponse.class).getId();
+        구간_직접_저장(양재역_ID, 판교역_ID, 7);
+        구간_직접_저장(선릉역_ID, 양재역_ID, 13);
+
+        // when
+        구간_생성_요청(sectionCreateRequest(판교역_ID, 정자역_ID, 5), CREATED.value());
+
+        // then
+        LineResponse response = 노선_조회_요청(이호선, OK.value()).as(LineResponse.class);
+        assertThat(response.getStations())
+                .extracting("id")
+                .containsExactly(강남역_ID, 선릉역_ID, 양재역_ID, 판교역_ID, 정자역_ID);
+    }
+
+    private void 구간_직접_저장(Long upStationId, Long downStationId, long distance) {
+        jdbcTemplate.update("insert into section (line_id, up_station_id, down_station_id, distance) values (?, ?, ?, ?)",
+                이호선, upStationId, downStationId, distance);
+    }
+
     private SectionCreateRequest sectionCreateRequest(long upStationId, long downStationId, int distance) {
         return SectionCreateRequest.builder()
                 .upStationId(upStationId)
@@ -227,6 +282,143 @@ public class SectionAcceptanceTest extends AcceptanceTest {
                 );
     }
 
+    /**
+     * GIVEN 노선의 하행 종점역에 구간을 추가하려는 요청 여러 개를
+     * WHEN 동시에 보내면
+     * THEN 하나의 구간만 추가되고 나머지 요청은 실패한다
+     */
+    @Test
+    void 성공_동시에_하행_종점역에_구간을_추가하면_하나의_구간만_추가된다() throws Exception {
+        // given
+        int requestCount = 5;
+        List<Callable<Integer>> requests = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            Long downStationId = 지하철역_생성_요청(new StationCreateRequest("동시역" + i), CREATED.value())
+                    .as(StationResponse.class).getId();
+            SectionCreateRequest request = sectionCreateRequest(선릉역_ID, downStationId, 10);
+            requests.add(() -> RestAssured.given()
+                    .body(request)
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .when().post("/lines/{lineId}/sections", 이호선)
+                    .statusCode());
+        }
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        List<Integer> statusCodes = new ArrayList<>();
+        try {
+            for (Future<Integer> future : executor.invokeAll(requests)) {
+                statusCodes.add(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        LineResponse response = 노선_조회_요청(이호선, OK.value()).as(LineResponse.class);
+        assertThat(statusCodes).containsOnlyOnce(CREATED.value());
+        assertThat(response.getStations()).hasSize(3)
+                .extracting("name")
+                .startsWith("강남역", "선릉역");
+    }
+
+    /**
+     * GIVEN 노선 변경 잠금을 먼저 잡아 둔 상태에서
+     * WHEN 같은 노선에 구간 추가 요청 여러 개를 동시에 보내면
+     * THEN 모든 요청이 잠금을 기다렸다가 하나씩 처리되어
+     * THEN 하나의 구간만 추가되고 나머지 요청은 충돌 없이 추가된 하행 종점역 기준으로 검증된다
+     */
+    @Test
+    void 성공_같은_노선의_구간_추가_요청은_잠금을_기다려_하나씩_처리된다() throws Exception {
+        // given
+        int requestCount = 5;
+        List<Callable<ExtractableResponse<Response>>> requests = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            Long downStationId = 지하철역_생성_요청(new StationCreateRequest("대기역" + i), CREATED.value())
+                    .as(StationResponse.class).getId();
+            SectionCreateRequest request = sectionCreateRequest(선릉역_ID, downStationId, 10);
+            requests.add(() -> RestAssured.given()
+                    .body(request)
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .when().post("/lines/{lineId}/sections", 이호선)
+                    .then().extract());
+        }
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        List<ExtractableResponse<Response>> responses = new ArrayList<>();
+        try {
+            List<Future<ExtractableResponse<Response>>> futures = new ArrayList<>();
+            Lock lock = lineWriteLocks.acquire(이호선);
+            try {
+                for (Callable<ExtractableResponse<Response>> request : requests) {
+                    futures.add(executor.submit(request));
+                }
+                잠금_대기_요청_수를_기다린다(requestCount);
+            } finally {
+                lock.unlock();
+            }
+            for (Future<ExtractableResponse<Response>> future : futures) {
+                responses.add(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        LineResponse response = 노선_조회_요청(이호선, OK.value()).as(LineResponse.class);
+        assertAll(
+                () -> assertThat(responses)
+                        .extracting(ExtractableResponse::statusCode)
+                        .containsOnly(CREATED.value(), OK.value())
+                        .containsOnlyOnce(CREATED.value()),
+                () -> assertThat(responses)
+                        .filteredOn(it -> it.statusCode() == OK.value())
+                        .extracting(it -> it.as(ExceptionResponse.class).getMessage())
+                        .containsOnly("새로운 구간의 상행역은 노선의 하행 종점역에만 생성할 수 있습니다."),
+                () -> assertThat(response.getStations()).hasSize(3)
+        );
+    }
+
+    /**
+     * GIVEN 다른 요청이 노선 변경 잠금을 잡고 있는 동안
+     * WHEN 같은 노선에 구간 추가를 요청하면
+     * THEN 잠금 대기 시간이 지나 409 Conflict 를 응답받고 구간은 추가되지 않는다
+     */
+    @Test
+    void 실패_노선_변경_잠금을_제한_시간_안에_얻지_못하면_충돌로_응답한다() {
+        // given
+        Lock lock = lineWriteLocks.acquire(이호선);
+
+        // when
+        ExtractableResponse<Response> response;
+        try {
+            response = 구간_생성_요청(sectionCreateRequest(선릉역_ID, 양재역_ID, 13), CONFLICT.value());
+        } finally {
+            lock.unlock();
+        }
+
+        // then
+        LineResponse lineResponse = 노선_조회_요청(이호선, OK.value()).as(LineResponse.class);
+        assertAll(
+                () -> assertThat(response.as(ExceptionResponse.class).getMessage())
+                        .isEqualTo("다른 요청과 동시에 노선을 변경하여 처리하지 못했습니다. 다시 시도해 주세요."),
+                () -> assertThat(lineResponse.getStations()).extracting("id").containsExactly(강남역_ID, 선릉역_ID)
+        );
+    }
+
+    private void 잠금_대기_요청_수를_기다린다(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (잠금_대기_요청_수() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(잠금_대기_요청_수()).isEqualTo(expected);
+    }
+
+    private double 잠금_대기_요청_수() {
+        return meterRegistry.get("subway.line.lock.waiting").gauge().value();
+    }
+
     private ExtractableResponse<Response> 구간_제거_요청(int statusCode, Map<String, String> params) {
         return delete("/lines/{lineId}/sections", statusCode, params, 이호선);
     }
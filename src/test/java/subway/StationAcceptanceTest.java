@@ -1,18 +1,31 @@
 package subway;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import subway.controller.dto.StationCreateRequest;
+import subway.controller.dto.StationImportResponse;
+import subway.controller.dto.StationPageResponse;
 import subway.controller.dto.StationResponse;
+import subway.service.NetworkVersion;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.springframework.http.HttpStatus.*;
+import static subway.config.CacheConfig.STATIONS;
 import static subway.fixture.StationFixture.GANGNAM_STATION;
 import static subway.fixture.StationFixture.SEOLLEUNG_STATION;
+import static subway.fixture.StationFixture.YANGJAE_STATION;
 
 @DisplayName("지하철역 관련 기능")
 public class StationAcceptanceTest extends AcceptanceTest {
@@ -20,6 +33,12 @@ public class StationAcceptanceTest extends AcceptanceTest {
     private static final String 강남역 = "강남역";
     private static final String 선릉역 = "선릉역";
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private NetworkVersion networkVersion;
+
     /**
      * When 지하철역을 생성하면
      * Then 지하철역이 생성된다
@@ -80,10 +99,118 @@ public class StationAcceptanceTest extends AcceptanceTest {
         assertThat(stationsNames).isEmpty();
     }
 
+    /**
+     * Given 지하철역 목록을 조회하고
+     * When 응답받은 ETag 로 다시 조회하면
+     * Then 변경이 없으므로 304 를 응답받는다
+     * When 지하철역을 생성한 뒤 같은 ETag 로 다시 조회하면
+     * Then 변경된 목록을 응답받는다
+     */
+    @DisplayName("변경되지 않은 지하철역 목록은 다시 내려주지 않는다.")
+    @Test
+    void selectStationsWithETag() {
+        // given
+        지하철역_생성_요청(GANGNAM_STATION.toCreateRequest(), CREATED.value());
+        String eTag = 지하철역_조회_요청(OK.value()).header(HttpHeaders.ETAG);
+
+        // when
+        지하철역_조건부_조회_요청(eTag, NOT_MODIFIED.value());
+        지하철역_생성_요청(SEOLLEUNG_STATION.toCreateRequest(), CREATED.value());
+        ExtractableResponse<Response> findResponse = 지하철역_조건부_조회_요청(eTag, OK.value());
+
+        // then
+        assertThat(findResponse.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        assertThat(findResponse.jsonPath().getList("name", String.class))
+                .containsExactly(강남역, 선릉역);
+    }
+
+    /**
+     * Given 3개의 지하철역을 생성하고
+     * When 지하철역 목록을 2개씩 나누어 조회하면
+     * Then 다음 페이지의 커서를 따라 모든 지하철역을 순서대로 응답받는다
+     */
+    @DisplayName("지하철역 목록을 커서 기반으로 나누어 조회한다.")
+    @Test
+    void selectStationPage() {
+        // given
+        지하철역_생성_요청(GANGNAM_STATION.toCreateRequest(), CREATED.value());
+        지하철역_생성_요청(SEOLLEUNG_STATION.toCreateRequest(), CREATED.value());
+        지하철역_생성_요청(YANGJAE_STATION.toCreateRequest(), CREATED.value());
+
+        // when
+        StationPageResponse firstPage = get("/stations?limit={limit}", OK.value(), 2)
+                .as(StationPageResponse.class);
+        StationPageResponse lastPage = get("/stations?cursor={cursor}&limit={limit}", OK.value(), firstPage.getNextCursor(), 2)
+                .as(StationPageResponse.class);
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage.getStations()).extracting("name").containsExactly(강남역, 선릉역),
+                () -> assertThat(firstPage.getNextCursor()).isEqualTo(2L),
+                () -> assertThat(lastPage.getStations()).extracting("name").containsExactly("양재역"),
+                () -> assertThat(lastPage.getNextCursor()).isNull()
+        );
+    }
+
+    /**
+     * When 이름이 비어있는 역을 포함한 지하철역 목록을 한 번에 등록하면
+     * Then 올바른 역만 등록되고 실패한 행은 위치와 사유를 응답받는다
+     */
+    @DisplayName("지하철역을 한 번에 여러 개 생성한다.")
+    @Test
+    void createStations() {
+        // when
+        List<StationCreateRequest> requests = List.of(
+                GANGNAM_STATION.toCreateRequest(),
+                new StationCreateRequest(" "),
+                SEOLLEUNG_STATION.toCreateRequest()
+        );
+        StationImportResponse importResponse = post("/stations/bulk", requests, OK.value())
+                .as(StationImportResponse.class);
+
+        // then
+        assertAll(
+                () -> assertThat(importResponse.getCreatedCount()).isEqualTo(2),
+                () -> assertThat(importResponse.getErrors()).extracting("index").containsExactly(1),
+                () -> assertThat(지하철역_조회_요청(OK.value()).jsonPath().getList("name", String.class))
+                        .containsExactly(강남역, 선릉역)
+        );
+    }
+
+    /**
+     * Given 지하철역 목록을 조회해 캐시에 담은 뒤
+     * When 지하철역을 한 번에 등록하고 목록을 다시 조회하면
+     * Then 캐시에는 현재 버전의 지하철역 목록만 남는다
+     */
+    @DisplayName("지하철역이 바뀌면 이전 버전의 지하철역 목록 캐시를 비운다.")
+    @Test
+    void evictStaleStationCache() {
+        // given
+        지하철역_생성_요청(GANGNAM_STATION.toCreateRequest(), CREATED.value());
+        지하철역_조회_요청(OK.value());
+
+        // when
+        post("/stations/bulk", List.of(SEOLLEUNG_STATION.toCreateRequest()), OK.value());
+        지하철역_조회_요청(OK.value());
+
+        // then
+        Cache<?, ?> cache = (Cache<?, ?>) cacheManager.getCache(STATIONS).getNativeCache();
+        assertThat(new ArrayList<Object>(cache.asMap().keySet())).containsExactly(networkVersion.current());
+    }
+
     private ExtractableResponse<Response> 지하철역_조회_요청(int statusCode) {
         return get("/stations/all", statusCode);
     }
 
+    private ExtractableResponse<Response> 지하철역_조건부_조회_요청(String eTag, int statusCode) {
+        return RestAssured.given().log().all()
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get("/stations/all")
+                .then().log().all()
+                .statusCode(statusCode)
+                .extract();
+    }
+
     private ExtractableResponse<Response> 지하철역_삭제_요청(Long id, int statusCode) {
         return delete("/stations/{id}", statusCode, new HashMap<>(), id);
     }
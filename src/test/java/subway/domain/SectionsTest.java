@@ -0,0 +1,194 @@
+package subway.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import subway.exception.ApplicationException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("노선의 구간 목록")
+class SectionsTest {
+
+    private final Line 신분당선 = new Line(1L);
+    private final Station 강남역 = new Station(1L, "강남역");
+    private final Station 선릉역 = new Station(2L, "선릉역");
+    private final Station 양재역 = new Station(3L, "양재역");
+    private final Station 판교역 = new Station(4L, "판교역");
+    private final Station 정자역 = new Station(5L, "정자역");
+
+    private Section 강남역_선릉역;
+    private Section 선릉역_양재역;
+    private Section 양재역_판교역;
+
+    @BeforeEach
+    void setUp() {
+        강남역_선릉역 = section(1L, 강남역, 선릉역);
+        선릉역_양재역 = section(2L, 선릉역, 양재역);
+        양재역_판교역 = section(3L, 양재역, 판교역);
+    }
+
+    /**
+     * GIVEN 저장된 순서가 상행에서 하행 순서가 아닌 구간들로
+     * WHEN 구간 목록을 만들면
+     * THEN 상행 종점역부터 하행 종점역까지 순서대로 정렬된다
+     */
+    @Test
+    void 성공_순서가_섞인_구간을_상행_종점역부터_하행_종점역_순으로_정렬한다() {
+        // when
+        Sections sections = new Sections(List.of(선릉역_양재역, 양재역_판교역, 강남역_선릉역));
+
+        // then
+        assertAll(
+                () -> assertThat(sections.sections()).containsExactly(강남역_선릉역, 선릉역_양재역, 양재역_판교역),
+                () -> assertThat(sections.stations()).containsExactly(강남역, 선릉역, 양재역, 판교역),
+                () -> assertThat(sections.findLastSection()).isEqualTo(양재역_판교역)
+        );
+    }
+
+    /**
+     * GIVEN 구간 목록에
+     * WHEN 하행 종점역을 상행역으로 하는 구간을 추가하면
+     * THEN 추가한 구간이 마지막 구간이 된다
+     */
+    @Test
+    void 성공_하행_종점역에_구간을_추가하면_마지막_구간이_된다() {
+        // given
+        Sections sections = new Sections(List.of(강남역_선릉역, 선릉역_양재역));
+
+        // when
+        sections.add(양재역_판교역);
+
+        // then
+        assertAll(
+                () -> assertThat(sections.findLastSection()).isEqualTo(양재역_판교역),
+                () -> assertThat(sections.stations()).containsExactly(강남역, 선릉역, 양재역, 판교역)
+        );
+    }
+
+    /**
+     * GIVEN 구간 목록에
+     * WHEN 노선에 없는 역을 상행역으로 하는 구간을 추가하면
+     * THEN 노선과 연결되지 않은 구간은 추가할 수 없다
+     */
+    @Test
+    void 실패_노선과_연결되지_않은_구간은_추가할_수_없다() {
+        // given
+        Sections sections = new Sections(List.of(강남역_선릉역));
+
+        // when, then
+        assertThatThrownBy(() -> sections.add(section(4L, 판교역, 정자역)))
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage("새로운 구간의 상행역은 노선의 하행 종점역에만 생성할 수 있습니다.");
+    }
+
+    /**
+     * GIVEN 구간 목록에
+     * WHEN 노선에 이미 있는 역을 하행역으로 하는 구간을 추가하면
+     * THEN 구간을 추가할 수 없다
+     */
+    @Test
+    void 실패_노선에_존재하는_역을_하행역으로_추가할_수_없다() {
+        // given
+        Sections sections = new Sections(List.of(강남역_선릉역, 선릉역_양재역));
+
+        // when, then
+        assertThatThrownBy(() -> sections.add(section(4L, 양재역, 강남역)))
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage("새로운 구간의 하행역은 노선에 존재하는 역에 생성할 수 없습니다.");
+    }
+
+    /**
+     * GIVEN 마지막 구간을 제거한 구간 목록에
+     * WHEN 제거한 구간의 하행역을 다시 추가하면
+     * THEN 구간을 추가할 수 있다
+     */
+    @Test
+    void 성공_마지막_구간을_제거하면_제거한_구간의_역을_다시_추가할_수_있다() {
+        // given
+        Sections sections = new Sections(List.of(강남역_선릉역, 선릉역_양재역));
+        sections.remove(sections.findLastSection());
+
+        // when
+        Section 선릉역_양재역_재등록 = section(3L, 선릉역, 양재역);
+        sections.add(선릉역_양재역_재등록);
+
+        // then
+        assertAll(
+                () -> assertThat(sections.findLastSection()).isEqualTo(선릉역_양재역_재등록),
+                () -> assertThat(sections.stations()).containsExactly(강남역, 선릉역, 양재역)
+        );
+    }
+
+    /**
+     * GIVEN 구간 목록에서
+     * WHEN 마지막 구간이 아닌 구간을 제거하려 하면
+     * THEN 구간을 제거할 수 없다
+     */
+    @Test
+    void 실패_마지막_구간이_아니면_제거할_수_없다() {
+        // given
+        Sections sections = new Sections(List.of(선릉역_양재역, 강남역_선릉역));
+
+        // when, then
+        assertThatThrownBy(() -> sections.validateDeleteSection(강남역_선릉역.id()))
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage("마지막 구간이 아닐 경우 구간을 제거할 수 없습니다.");
+    }
+
+    /**
+     * WHEN 하나의 경로로 이어지지 않는 구간들로 구간 목록을 만들면
+     * THEN 잘못된 구간 정보로 구간 목록을 만들 수 없다
+     */
+    @Test
+    void 실패_연결되지_않은_구간이_있으면_구간_목록을_만들_수_없다() {
+        // given
+        List<Section> detached = List.of(강남역_선릉역, section(4L, 판교역, 정자역));
+
+        // when, then
+        assertThatThrownBy(() -> new Sections(detached))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("구간이 하나의 경로로 연결되어 있지 않습니다.");
+    }
+
+    /**
+     * WHEN 같은 상행역에서 갈라지는 구간들로 구간 목록을 만들면
+     * THEN 잘못된 구간 정보로 구간 목록을 만들 수 없다
+     */
+    @Test
+    void 실패_갈라지는_구간이_있으면_구간_목록을_만들_수_없다() {
+        // given
+        List<Section> branched = List.of(강남역_선릉역, section(4L, 강남역, 양재역));
+
+        // when, then
+        assertThatThrownBy(() -> new Sections(branched))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("구간이 하나의 경로로 연결되어 있지 않습니다.");
+    }
+
+    /**
+     * WHEN 순환하는 구간들로 구간 목록을 만들면
+     * THEN 상행 종점역이 없어 구간 목록을 만들 수 없다
+     */
+    @Test
+    void 실패_순환하는_구간이면_구간_목록을_만들_수_없다() {
+        // given
+        List<Section> cycle = List.of(강남역_선릉역, section(4L, 선릉역, 강남역));
+
+        // when, then
+        assertThatThrownBy(() -> new Sections(cycle))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("구간의 상행 종점역을 찾을 수 없습니다.");
+    }
+
+    private Section section(Long id, Station upStation, Station downStation) {
+        Section section = new Section(신분당선, upStation, downStation, 10L);
+        ReflectionTestUtils.setField(section, "id", id);
+        return section;
+    }
+}
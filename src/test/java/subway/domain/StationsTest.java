@@ -0,0 +1,132 @@
+package subway.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("지하철역 목록")
+class StationsTest {
+
+    private static final int CAPACITY = Stations.capacityFor(3);
+    private static final int LAST_SLOT = CAPACITY - 1;
+
+    /**
+     * GIVEN 마지막 슬롯으로 해시되는 역 세 개로
+     * WHEN 역 목록을 만들면
+     * THEN 뒤의 두 역은 앞쪽 슬롯으로 넘어가 저장되고
+     * THEN 세 역 모두 두 조회 방식으로 조회할 수 있다
+     */
+    @Test
+    void 성공_마지막_슬롯에서_충돌한_역은_앞쪽_슬롯으로_넘어가도_조회한다() {
+        // given
+        List<Long> ids = idsInSlot(LAST_SLOT, CAPACITY, 3);
+        List<Station> stations = stationsOf(ids);
+
+        // when
+        Stations found = new Stations(stations);
+
+        // then
+        assertAll(
+                () -> assertThat(ids.stream().map(id -> found.findBy(id)).collect(Collectors.toList()))
+                        .containsExactlyElementsOf(stations),
+                () -> assertThat(ids.stream().map(id -> found.findBy(id.longValue())).collect(Collectors.toList()))
+                        .containsExactlyElementsOf(stations)
+        );
+    }
+
+    /**
+     * GIVEN 마지막 슬롯에서 넘어온 역이 첫 슬롯을 차지하고 있을 때
+     * WHEN 첫 슬롯으로 해시되는 역을 조회하면
+     * THEN 이어지는 슬롯을 탐색해 조회한다
+     */
+    @Test
+    void 성공_넘어온_역이_차지한_슬롯으로_해시되는_역도_조회한다() {
+        // given
+        List<Long> collidingIds = idsInSlot(LAST_SLOT, Stations.capacityFor(4), 3);
+        Long firstSlotId = idsInSlot(0, Stations.capacityFor(4), 1).get(0);
+        Station 첫_슬롯역 = new Station(firstSlotId, "역" + firstSlotId);
+        List<Station> stations = new ArrayList<>(stationsOf(collidingIds));
+        stations.add(첫_슬롯역);
+
+        // when
+        Stations found = new Stations(stations);
+
+        // then
+        assertAll(
+                () -> assertThat(found.findBy(firstSlotId)).isEqualTo(첫_슬롯역),
+                () -> assertThat(found.findBy(firstSlotId.longValue())).isEqualTo(첫_슬롯역)
+        );
+    }
+
+    /**
+     * GIVEN 마지막 슬롯에서 충돌해 앞쪽 슬롯까지 채운 역 목록에서
+     * WHEN 같은 슬롯으로 해시되는 존재하지 않는 역을 조회하면
+     * THEN 빈 슬롯까지 탐색한 뒤 존재하지 않는 역으로 조회할 수 없다
+     */
+    @Test
+    void 실패_같은_슬롯으로_해시되는_존재하지_않는_역은_조회할_수_없다() {
+        // given
+        List<Long> ids = idsInSlot(LAST_SLOT, CAPACITY, 4);
+        Stations stations = new Stations(stationsOf(ids.subList(0, 3)));
+        Long unknownId = ids.get(3);
+
+        // when, then
+        assertAll(
+                () -> assertThatThrownBy(() -> stations.findBy(unknownId))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("존재하지 않는 역입니다."),
+                () -> assertThatThrownBy(() -> stations.findBy(unknownId.longValue()))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("존재하지 않는 역입니다.")
+        );
+    }
+
+    /**
+     * WHEN 역 아이디 없이 역을 조회하면
+     * THEN 존재하지 않는 역으로 조회할 수 없다
+     */
+    @Test
+    void 실패_역_아이디가_없으면_조회할_수_없다() {
+        // given
+        Stations stations = new Stations(stationsOf(idsInSlot(LAST_SLOT, CAPACITY, 3)));
+
+        // when, then
+        assertThatThrownBy(() -> stations.findBy((Long) null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 역입니다.");
+    }
+
+    /**
+     * WHEN 비어 있는 역으로 역 목록을 만들면
+     * THEN 역 목록을 만들 수 없다
+     */
+    @Test
+    void 실패_역이_없으면_역_목록을_만들_수_없다() {
+        assertThatThrownBy(() -> new Stations(List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("지하철역이 존재하지 않습니다.");
+    }
+
+    private static List<Long> idsInSlot(int slot, int capacity, int count) {
+        int shift = Stations.shiftFor(capacity);
+        return LongStream.iterate(1, id -> id + 1)
+                .filter(id -> Stations.slotOf(id, shift) == slot)
+                .limit(count)
+                .boxed()
+                .collect(Collectors.toList());
+    }
+
+    private static List<Station> stationsOf(List<Long> ids) {
+        return ids.stream()
+                .map(id -> new Station(id, "역" + id))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,166 @@
+package subway.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import subway.exception.ApplicationException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("지하철 노선망 그래프")
+class SubwayGraphTest {
+
+    private static final SectionEdge 강남역_선릉역 = new SectionEdge(1L, "강남역", 2L, "선릉역", 10L);
+    private static final SectionEdge 선릉역_양재역 = new SectionEdge(2L, "선릉역", 3L, "양재역", 5L);
+    private static final SectionEdge 양재역_판교역 = new SectionEdge(3L, "양재역", 4L, "판교역", 7L);
+    private static final SectionEdge 강남역_양재역 = new SectionEdge(1L, "강남역", 3L, "양재역", 20L);
+
+    /**
+     * GIVEN 비어 있는 노선망에
+     * WHEN 여러 구간을 한 번에 추가하면
+     * THEN 추가한 구간을 모두 지나는 경로를 조회할 수 있다
+     */
+    @Test
+    void 성공_여러_구간을_한_번에_추가하면_추가한_구간으로_경로를_조회한다() {
+        // given
+        SubwayGraph graph = SubwayGraph.empty();
+
+        // when
+        SubwayGraph imported = graph.withSections(List.of(강남역_선릉역, 선릉역_양재역, 양재역_판교역));
+        Path path = imported.findShortestPath(1L, 4L);
+
+        // then
+        assertAll(
+                () -> assertThat(path.distance()).isEqualTo(22L),
+                () -> assertThat(path.stations())
+                        .extracting("id", "name")
+                        .containsExactly(
+                                tuple(1L, "강남역"),
+                                tuple(2L, "선릉역"),
+                                tuple(3L, "양재역"),
+                                tuple(4L, "판교역")
+                        )
+        );
+    }
+
+    /**
+     * GIVEN 노선망을 만들고
+     * WHEN 구간을 추가하면
+     * THEN 기존 그래프는 변경되지 않는다
+     */
+    @Test
+    void 성공_구간을_추가해도_기존_그래프는_변경되지_않는다() {
+        // given
+        SubwayGraph graph = SubwayGraph.of(List.of(강남역_선릉역));
+
+        // when
+        graph.withSections(List.of(선릉역_양재역));
+
+        // then
+        assertThatThrownBy(() -> graph.findShortestPath(1L, 3L))
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage("노선에 등록되지 않은 역입니다.");
+    }
+
+    /**
+     * GIVEN 노선망을 만들고
+     * WHEN 한 노선의 구간을 모두 제거하면
+     * THEN 다른 노선의 구간으로 경로를 조회한다
+     */
+    @Test
+    void 성공_노선의_구간을_모두_제거하면_남은_구간으로_경로를_조회한다() {
+        // given
+        SubwayGraph graph = SubwayGraph.of(List.of(강남역_선릉역, 선릉역_양재역, 강남역_양재역));
+
+        // when
+        SubwayGraph removed = graph.withoutSections(List.of(강남역_선릉역, 선릉역_양재역));
+        Path path = removed.findShortestPath(1L, 3L);
+
+        // then
+        assertAll(
+                () -> assertThat(path.distance()).isEqualTo(20L),
+                () -> assertThat(path.stations()).extracting("id").containsExactly(1L, 3L)
+        );
+    }
+
+    /**
+     * GIVEN 같은 역 사이에 거리가 같은 구간이 두 개 있을 때
+     * WHEN 그중 하나를 제거하면
+     * THEN 남은 구간으로 경로를 조회한다
+     */
+    @Test
+    void 성공_거리가_같은_평행_구간_중_하나를_제거하면_남은_구간으로_경로를_조회한다() {
+        // given
+        SectionEdge 다른_노선의_강남역_선릉역 = new SectionEdge(1L, "강남역", 2L, "선릉역", 10L);
+        SubwayGraph graph = SubwayGraph.of(List.of(강남역_선릉역, 다른_노선의_강남역_선릉역));
+
+        // when
+        SubwayGraph removed = graph.withoutSections(List.of(강남역_선릉역));
+        Path path = removed.findShortestPath(2L, 1L);
+
+        // then
+        assertAll(
+                () -> assertThat(path.distance()).isEqualTo(10L),
+                () -> assertThat(path.stations()).extracting("id").containsExactly(2L, 1L)
+        );
+    }
+
+    /**
+     * GIVEN 같은 역 사이에 거리가 같은 구간이 두 개 있을 때
+     * WHEN 두 구간을 모두 제거하면
+     * THEN 등록되지 않은 역으로 경로를 조회할 수 없다
+     */
+    @Test
+    void 실패_평행_구간을_모두_제거하면_등록되지_않은_역이_된다() {
+        // given
+        SectionEdge 다른_노선의_강남역_선릉역 = new SectionEdge(1L, "강남역", 2L, "선릉역", 10L);
+        SubwayGraph graph = SubwayGraph.of(List.of(강남역_선릉역, 다른_노선의_강남역_선릉역));
+
+        // when
+        SubwayGraph removed = graph.withoutSections(List.of(강남역_선릉역, 다른_노선의_강남역_선릉역));
+
+        // then
+        assertThatThrownBy(() -> removed.findShortestPath(1L, 2L))
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage("노선에 등록되지 않은 역입니다.");
+    }
+
+    /**
+     * GIVEN 강남역 - 선릉역 - 양재역 노선망에서
+     * WHEN 선릉역 - 양재역 구간을 제거해 양재역에 연결된 구간이 남지 않으면
+     * THEN 양재역은 등록되지 않은 역으로 경로를 조회할 수 없다
+     */
+    @Test
+    void 실패_연결된_구간이_남지_않은_역은_등록되지_않은_역이다() {
+        // given
+        SubwayGraph graph = SubwayGraph.of(List.of(강남역_선릉역, 선릉역_양재역));
+
+        // when
+        SubwayGraph removed = graph.withoutSections(List.of(선릉역_양재역));
+
+        // then
+        assertThatThrownBy(() -> removed.findShortestPath(1L, 3L))
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage("노선에 등록되지 않은 역입니다.");
+    }
+
+    /**
+     * GIVEN 서로 연결되지 않은 두 구간이 있을 때
+     * WHEN 각 구간의 역으로 경로를 조회하면
+     * THEN 연결되어 있지 않아 경로를 조회할 수 없다
+     */
+    @Test
+    void 실패_연결되지_않은_역_사이의_경로는_조회할_수_없다() {
+        // given
+        SubwayGraph graph = SubwayGraph.of(List.of(강남역_선릉역, 양재역_판교역));
+
+        // when, then
+        assertThatThrownBy(() -> graph.findShortestPath(1L, 4L))
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage("출발역과 도착역이 연결되어 있지 않습니다.");
+    }
+}